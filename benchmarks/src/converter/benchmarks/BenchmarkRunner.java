@@ -0,0 +1,26 @@
+package converter.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the converter benchmarks with the GC profiler, so that throughput, average time and allocation rate
+ * are reported together. Pass a regular expression to run only the matching benchmarks, for example
+ * "ValidatorBenchmark" or "ConverterBenchmark.toElbonian".
+ *
+ * @version 10/18/26
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : "converter.benchmarks")
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+
+}
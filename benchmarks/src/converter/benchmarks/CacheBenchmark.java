@@ -0,0 +1,69 @@
+package converter.benchmarks;
+
+import converter.ConversionCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks ConversionCache lookups over different input mixes, once with room for every input so that each
+ * lookup is a hit, and once with room for a quarter of them so that entries keep being classified, promoted
+ * and evicted. Run it through BenchmarkRunner, or with -prof gc, to see the bytes allocated per lookup.
+ *
+ * @version 10/18/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheBenchmark {
+
+    @Param({"padded", "mixed", "invalid"})
+    public String mix;
+
+    private String[] inputs;
+    private ConversionCache everything;
+    private ConversionCache quarter;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        inputs = Inputs.generate(mix);
+        everything = new ConversionCache(Inputs.SIZE, 1);
+        quarter = new ConversionCache(Inputs.SIZE / 4, 1);
+        for(String input : inputs) {
+            everything.classify(input);
+        }
+    }
+
+    private int nextIndex() {
+        next = next + 1 & Inputs.SIZE - 1;
+        return next;
+    }
+
+    @Benchmark
+    public int hit() {
+        return everything.classify(inputs[nextIndex()]);
+    }
+
+    @Benchmark
+    public int churn() {
+        // Every other lookup is one of 64 inputs that keep coming back; the rest go through 512 others
+        int a = nextIndex();
+        return quarter.classify(inputs[(a & 1) == 0 ? a & 127 : a]);
+    }
+
+}
@@ -0,0 +1,63 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.util.Random;
+
+/**
+ * Reports how much heap a column of converted numerals keeps alive when every row holds its own String, as
+ * the ReferenceConverter produces, compared with the shared Strings the ElbonianArabicConverter returns.
+ *
+ * Usage: java converter.benchmarks.CanonicalMemoryReport [rows]
+ *
+ * The values follow a skewed distribution over a few hundred distinct values, like a real dataset. Run
+ * with a fixed heap, for example -Xms1g -Xmx1g, so that the measurements are not disturbed by resizing.
+ *
+ * @version 10/18/26
+ */
+public class CanonicalMemoryReport {
+
+    public static void main(String[] args) throws MalformedNumberException, ValueOutOfBoundsException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        Random random = new Random(3733);
+        String[] inputs = new String[rows];
+        for(int a = 0; a < rows; a++) {
+            // Squaring a uniform value favours small indexes, spread over 300 distinct values
+            double skew = random.nextDouble();
+            inputs[a] = Integer.toString(1 + (int) (skew * skew * 300) * 10);
+        }
+
+        long before = usedHeap();
+        String[] copies = new String[rows];
+        for(int a = 0; a < rows; a++) {
+            copies[a] = new ReferenceConverter(inputs[a]).toElbonian();
+        }
+        long copiesHeap = usedHeap() - before;
+
+        before = usedHeap();
+        String[] shared = new String[rows];
+        for(int a = 0; a < rows; a++) {
+            shared[a] = new ElbonianArabicConverter(inputs[a]).toElbonian();
+        }
+        long sharedHeap = usedHeap() - before;
+
+        System.out.printf("%d rows%n", rows);
+        System.out.printf("one String per row (reference): %,d bytes retained, %.1f bytes/row%n", copiesHeap,
+                copiesHeap / (double) rows);
+        System.out.printf("shared Strings:                 %,d bytes retained, %.1f bytes/row%n", sharedHeap,
+                sharedHeap / (double) rows);
+        // Keep both columns reachable until after the measurements
+        System.out.println(copies[rows - 1].equals(shared[rows - 1]) ? "results match" : "results differ");
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for(int a = 0; a < 3; a++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
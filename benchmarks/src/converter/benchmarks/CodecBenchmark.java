@@ -0,0 +1,110 @@
+package converter.benchmarks;
+
+import converter.ConversionResult;
+import converter.ElbonianArabicConverter;
+import converter.ElbonianCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding a column stored in the packed ElbonianCodec format with parsing the same column stored
+ * as newline separated Elbonian text. The sizes of both encodings are printed when the benchmark starts.
+ *
+ * @version 10/18/26
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    @Param({"1000000"})
+    public int rows;
+
+    private byte[] packed;
+    private byte[] text;
+    private int[] indexes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(3733);
+        int[] values = new int[rows];
+        StringBuilder builder = new StringBuilder();
+        for(int a = 0; a < rows; a++) {
+            values[a] = 1 + random.nextInt(2999);
+            builder.append(Inputs.elbonian(values[a])).append('\n');
+        }
+        packed = ElbonianCodec.encode(values);
+        text = builder.toString().getBytes(StandardCharsets.US_ASCII);
+        indexes = new int[1024];
+        for(int a = 0; a < indexes.length; a++) {
+            indexes[a] = random.nextInt(rows);
+        }
+        System.out.printf("%n%d rows: packed %,d bytes (%.2f bytes/row), text %,d bytes (%.2f bytes/row)%n", rows,
+                packed.length, packed.length / (double) rows, text.length, text.length / (double) rows);
+    }
+
+    @Benchmark
+    public long decodePacked() throws IOException {
+        ElbonianCodec.Reader reader = new ElbonianCodec.Reader(new ByteArrayInputStream(packed));
+        long sum = 0;
+        while(reader.hasNext()) {
+            sum += reader.next();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long decodePackedRandomAccess() throws IOException {
+        ElbonianCodec.RandomAccessReader reader = new ElbonianCodec.RandomAccessReader(ByteBuffer.wrap(packed));
+        long sum = 0;
+        for(int a = 0; a < rows; a++) {
+            sum += reader.get(a);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public long randomLookups() throws IOException {
+        ElbonianCodec.RandomAccessReader reader = new ElbonianCodec.RandomAccessReader(ByteBuffer.wrap(packed));
+        long sum = 0;
+        for(int index : indexes) {
+            sum += reader.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long parseText() {
+        long sum = 0;
+        int start = 0;
+        for(int a = 0; a < text.length; a++) {
+            if(text[a] == '\n') {
+                sum += ConversionResult.value(ElbonianArabicConverter.classify(text, start, a));
+                start = a + 1;
+            }
+        }
+        return sum;
+    }
+
+}
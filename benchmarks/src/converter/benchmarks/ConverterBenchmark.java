@@ -0,0 +1,134 @@
+package converter.benchmarks;
+
+import converter.BatchConverter;
+import converter.ConversionResult;
+import converter.ElbonianArabicConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the public conversion paths of the ElbonianArabicConverter over different input mixes.
+ * Each invocation converts one input, cycling through the mix.
+ *
+ * @version 10/18/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+    @Param({"elbonian", "arabic", "padded", "mixed", "invalid"})
+    public String mix;
+
+    private String[] inputs;
+    private ElbonianArabicConverter[] converters;
+    private final int[] values = new int[Inputs.SIZE];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws MalformedNumberException, ValueOutOfBoundsException {
+        inputs = Inputs.generate(mix);
+        converters = new ElbonianArabicConverter[inputs.length];
+        // Invalid inputs only take part in the constructor benchmarks; their slots convert 1 instead
+        ElbonianArabicConverter fallback = new ElbonianArabicConverter(" 1 ");
+        for(int a = 0; a < inputs.length; a++) {
+            try {
+                converters[a] = new ElbonianArabicConverter(inputs[a]);
+            } catch(MalformedNumberException | ValueOutOfBoundsException e) {
+                converters[a] = fallback;
+            }
+        }
+    }
+
+    private int nextIndex() {
+        next = next + 1 & Inputs.SIZE - 1;
+        return next;
+    }
+
+    @Benchmark
+    public Object constructor() {
+        try {
+            return new ElbonianArabicConverter(inputs[nextIndex()]);
+        } catch(MalformedNumberException | ValueOutOfBoundsException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public int toArabic() {
+        return converters[nextIndex()].toArabic();
+    }
+
+    @Benchmark
+    public String toElbonian() {
+        return converters[nextIndex()].toElbonian();
+    }
+
+    @Benchmark
+    public int roundTrip() throws MalformedNumberException, ValueOutOfBoundsException {
+        String elbonian = converters[nextIndex()].toElbonian();
+        return new ElbonianArabicConverter(elbonian).toArabic();
+    }
+
+    @Benchmark
+    public int classify() {
+        String input = inputs[nextIndex()];
+        return ElbonianArabicConverter.classify(input, 0, input.length());
+    }
+
+    @Benchmark
+    public Object rejectMalformed() {
+        String input = inputs[nextIndex()];
+        int result = ElbonianArabicConverter.classify(input, 0, input.length());
+        return ConversionResult.errorKind(result);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long[] batchToArabic() {
+        return BatchConverter.toArabic(inputs, values);
+    }
+
+    /**
+     * Converts every valid Elbonian numeral to Arabic and back in one invocation.
+     */
+    @State(Scope.Benchmark)
+    public static class Sweep {
+
+        String[] numerals;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            numerals = Inputs.allNumerals();
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void allNumeralsSweep(Sweep sweep, Blackhole blackhole) throws MalformedNumberException,
+            ValueOutOfBoundsException {
+        for(String numeral : sweep.numerals) {
+            ElbonianArabicConverter converter = new ElbonianArabicConverter(numeral);
+            blackhole.consume(new ElbonianArabicConverter(Integer.toString(converter.toArabic())).toElbonian());
+        }
+    }
+
+}
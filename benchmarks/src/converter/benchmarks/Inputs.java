@@ -0,0 +1,104 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.util.Random;
+
+/**
+ * Builds the input mixes the benchmarks run over. Every mix is generated from a fixed seed so that runs on
+ * different machines and builds convert exactly the same Strings.
+ *
+ * @version 10/18/26
+ */
+final class Inputs {
+
+    // The number of Strings in each mix; a power of two so benchmarks can cycle with a mask
+    static final int SIZE = 1024;
+
+    private Inputs() {
+    }
+
+    /**
+     * Builds an input mix.
+     *
+     * @param mix One of "elbonian", "arabic", "padded", "mixed" or "invalid"
+     * @return SIZE Strings of the requested mix
+     */
+    static String[] generate(String mix) {
+        Random random = new Random(3733);
+        String[] inputs = new String[SIZE];
+        for(int a = 0; a < SIZE; a++) {
+            int value = 1 + random.nextInt(2999);
+            switch(mix) {
+                case "elbonian":
+                    inputs[a] = elbonian(value);
+                    break;
+                case "arabic":
+                    inputs[a] = Integer.toString(value);
+                    break;
+                case "padded":
+                    String number = random.nextBoolean() ? elbonian(value) : Integer.toString(value);
+                    inputs[a] = spaces(random.nextInt(3)) + number + spaces(random.nextInt(3));
+                    break;
+                case "mixed":
+                    // Roughly what an ingest column looks like: mostly valid, a few bad rows
+                    int kind = random.nextInt(10);
+                    inputs[a] = kind < 5 ? elbonian(value) : kind < 9 ? Integer.toString(value) : invalid(random);
+                    break;
+                case "invalid":
+                    inputs[a] = invalid(random);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown input mix " + mix);
+            }
+        }
+        return inputs;
+    }
+
+    /**
+     * @return The Elbonian numerals for every value from 1 to 2999, in order
+     */
+    static String[] allNumerals() {
+        String[] numerals = new String[2999];
+        for(int value = 1; value <= 2999; value++) {
+            numerals[value - 1] = elbonian(value);
+        }
+        return numerals;
+    }
+
+    static String elbonian(int value) {
+        try {
+            return new ElbonianArabicConverter(Integer.toString(value)).toElbonian();
+        } catch(MalformedNumberException | ValueOutOfBoundsException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String spaces(int count) {
+        StringBuilder builder = new StringBuilder();
+        for(int a = 0; a < count; a++) {
+            builder.append(' ');
+        }
+        return builder.toString();
+    }
+
+    private static String invalid(Random random) {
+        switch(random.nextInt(6)) {
+            case 0:
+                return "MMM";
+            case 1:
+                return "EDC";
+            case 2:
+                return "MDE";
+            case 3:
+                return "MM DZYJI";
+            case 4:
+                return Integer.toString(3000 + random.nextInt(7000));
+            default:
+                return "mmdzyji";
+        }
+    }
+
+}
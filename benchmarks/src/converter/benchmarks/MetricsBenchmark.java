@@ -0,0 +1,85 @@
+package converter.benchmarks;
+
+import converter.ConversionResult;
+import converter.ElbonianArabicConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what the ConverterMetrics cost, by running the same constructor and toArabic() calls in a JVM
+ * with the metrics switched off and in one with them switched on. The uninstrumented benchmark runs the
+ * same conversion without the checks of ConverterMetrics.ENABLED, to show what the checks cost when the
+ * metrics are off.
+ *
+ * @version 10/18/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MetricsBenchmark {
+
+    private String[] inputs;
+    private int next;
+
+    /**
+     * The ElbonianArabicConverter constructor and toArabic() with the metrics checks taken out.
+     */
+    private static final class Uninstrumented {
+
+        private final int value;
+
+        Uninstrumented(String number) throws MalformedNumberException, ValueOutOfBoundsException {
+            value = ConversionResult.valueOrThrow(ElbonianArabicConverter.classify(number, 0, number.length()),
+                    number);
+        }
+
+        int toArabic() {
+            return value;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        inputs = Inputs.generate("elbonian");
+    }
+
+    private int convert() throws MalformedNumberException, ValueOutOfBoundsException {
+        next = next + 1 & Inputs.SIZE - 1;
+        return new ElbonianArabicConverter(inputs[next]).toArabic();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dconverter.metrics=false")
+    public int uninstrumented() throws MalformedNumberException, ValueOutOfBoundsException {
+        next = next + 1 & Inputs.SIZE - 1;
+        return new Uninstrumented(inputs[next]).toArabic();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dconverter.metrics=false")
+    public int metricsOff() throws MalformedNumberException, ValueOutOfBoundsException {
+        return convert();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dconverter.metrics=true")
+    public int metricsOn() throws MalformedNumberException, ValueOutOfBoundsException {
+        return convert();
+    }
+
+}
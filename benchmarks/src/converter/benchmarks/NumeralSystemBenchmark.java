@@ -0,0 +1,139 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import converter.NumeralSystem;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks numerals parsed by a NumeralSystem compiled from its definition against the converter's own
+ * Elbonian tables and the original hand written ReferenceConverter, and runs the same engine over additive
+ * Roman numerals to show a second system costs the same.
+ *
+ * The reference's constructor and toArabic() try Integer.parseInt first and catch its Exception for every
+ * Elbonian numeral, which would swamp the checks being compared. So handWrittenReference calls the
+ * reference's three check methods and then adds up the symbols the same way its toArabic() does. With the
+ * invalid mix those check methods still throw, as that is how they report a broken rule.
+ *
+ * @version 10/18/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumeralSystemBenchmark {
+
+    private static final NumeralSystem ROMAN = new NumeralSystem("MDCLXVI",
+            new int[] {1000, 500, 100, 50, 10, 5, 1}, new int[] {4, 1, 4, 1, 4, 1, 4});
+
+    @Param({"elbonian", "invalid"})
+    public String mix;
+
+    private String[] inputs;
+    private String[] roman;
+    private ReferenceConverter reference;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws MalformedNumberException, ValueOutOfBoundsException {
+        inputs = Inputs.generate(mix);
+        roman = new String[Inputs.SIZE];
+        for(int a = 0; a < Inputs.SIZE; a++) {
+            int value = NumeralSystem.ELBONIAN.value(inputs[a], 0, inputs[a].length());
+            roman[a] = value > 0 ? ROMAN.format(value) : inputs[a];
+        }
+        reference = new ReferenceConverter("I");
+    }
+
+    private int nextIndex() {
+        next = next + 1 & Inputs.SIZE - 1;
+        return next;
+    }
+
+    @Benchmark
+    public int compiledElbonian() {
+        String input = inputs[nextIndex()];
+        return NumeralSystem.ELBONIAN.validate(input, 0, input.length());
+    }
+
+    @Benchmark
+    public int compiledRoman() {
+        String input = roman[nextIndex()];
+        return ROMAN.validate(input, 0, input.length());
+    }
+
+    @Benchmark
+    public int converterTables() {
+        String input = inputs[nextIndex()];
+        return ElbonianArabicConverter.classify(input, 0, input.length());
+    }
+
+    @Benchmark
+    public int handWrittenReference() {
+        String input = inputs[nextIndex()];
+        try {
+            reference.checkValidCharacters(input);
+            reference.checkDuplicates(input);
+            reference.checkOrder(input);
+        } catch(MalformedNumberException e) {
+            return -1;
+        }
+        return sum(input);
+    }
+
+    // The summation in ReferenceConverter.toArabic()
+    private static int sum(String number) {
+        int result = 0;
+        for(int a = 0; a < number.length(); a++) {
+            switch(number.charAt(a)) {
+                case 'M':
+                    result += 1000;
+                    break;
+                case 'C':
+                    result += 100;
+                    break;
+                case 'X':
+                    result += 10;
+                    break;
+                case 'I':
+                    result += 1;
+                    break;
+                case 'D':
+                    result += 300;
+                    break;
+                case 'E':
+                    result += 600;
+                    break;
+                case 'Y':
+                    result += 30;
+                    break;
+                case 'Z':
+                    result += 60;
+                    break;
+                case 'J':
+                    result += 3;
+                    break;
+                case 'K':
+                    result += 6;
+            }
+        }
+        return result;
+    }
+
+}
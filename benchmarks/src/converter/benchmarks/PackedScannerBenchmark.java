@@ -0,0 +1,58 @@
+package converter.benchmarks;
+
+import converter.PackedScanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures PackedScanner on ranges of valid packed numerals of each length.
+ *
+ * @version 10/18/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PackedScannerBenchmark {
+
+    @Param({"8", "16", "32", "64", "128", "1024", "65536"})
+    public int size;
+
+    private byte[] packed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Every numeral is valid, so the whole range is scanned
+        StringBuilder builder = new StringBuilder();
+        for(int value = 1; builder.length() < size; value = value % 2999 + 1) {
+            builder.append(Inputs.elbonian(value));
+        }
+        packed = builder.substring(0, size).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public int indexOfInvalidCharacter() {
+        return PackedScanner.indexOfInvalidCharacter(packed, 0, packed.length);
+    }
+
+    @Benchmark
+    public long sumValues() {
+        return PackedScanner.sumValues(packed, 0, packed.length);
+    }
+
+}
@@ -0,0 +1,120 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reports the time to the first conversion in a fresh JVM for each way the conversion tables can be built,
+ * as chosen by the converter.tables system property. Each run starts a new JVM, which loads the converter
+ * class, then converts one Arabic number and one Elbonian numeral, and prints how long each step took. The
+ * time from starting the JVM to its exit is measured as well. JMH is not used because its own start up
+ * would dwarf what is being measured.
+ *
+ * Usage: java converter.benchmarks.StartupReport [runs] [JVM options for the runs...]
+ *
+ * Class loading is most of the start up cost, and an application class data sharing (AppCDS) archive of
+ * the converter's classes removes most of it. The archive can only hold classes loaded from jar files, so
+ * package the compiled classes first, then record the classes a typical run loads, dump them into an
+ * archive, and start later runs with it:
+ *
+ *     jar cf converter.jar -C out/production/CS3733_Assignment_4_Template converter
+ *     java -Xshare:off -XX:DumpLoadedClassList=converter.classlist -cp converter.jar \
+ *         converter.ConverterTool --to-elbonian sample.txt
+ *     java -Xshare:dump -XX:SharedClassListFile=converter.classlist -XX:SharedArchiveFile=converter.jsa \
+ *         -cp converter.jar
+ *     java -XX:SharedArchiveFile=converter.jsa -cp converter.jar converter.ConverterTool ...
+ *
+ * The class path at run time must start with the class path the archive was dumped with. To measure the
+ * archive here, run this report with converter.jar first on the class path and pass
+ * -XX:SharedArchiveFile=converter.jsa as a JVM option.
+ *
+ * @version 10/18/26
+ */
+public class StartupReport {
+
+    private static final String[] MODES = {"lazy", "eager", "resource"};
+
+    public static void main(String[] args) throws IOException, InterruptedException, ClassNotFoundException,
+            MalformedNumberException, ValueOutOfBoundsException {
+        if(args.length > 0 && args[0].equals("--probe")) {
+            probe();
+            return;
+        }
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        List<String> options = args.length > 1 ? Arrays.asList(args).subList(1, args.length) : new ArrayList<>();
+
+        System.out.printf("%d runs per mode%s%n", runs, options.isEmpty() ? "" : ", JVM options " + options);
+        System.out.printf("%-10s %24s %24s %24s%n", "mode", "class load (us)", "first conversion (us)",
+                "JVM start to exit (ms)");
+        for(String mode : MODES) {
+            // One run that is not counted, so every mode starts with the same files cached
+            run(mode, options);
+            long[] load = new long[runs];
+            long[] first = new long[runs];
+            long[] total = new long[runs];
+            for(int a = 0; a < runs; a++) {
+                long start = System.nanoTime();
+                long[] times = run(mode, options);
+                total[a] = System.nanoTime() - start;
+                load[a] = times[0];
+                first[a] = times[1];
+            }
+            System.out.printf("%-10s %24s %24s %24s%n", mode, summary(load, 1_000), summary(first, 1_000),
+                    summary(total, 1_000_000));
+        }
+    }
+
+    private static long[] run(String mode, List<String> options) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(options);
+        command.add("-Dconverter.tables=" + mode);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(StartupReport.class.getName());
+        command.add("--probe");
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String line;
+        try(BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(),
+                StandardCharsets.US_ASCII))) {
+            line = reader.readLine();
+        }
+        if(process.waitFor() != 0 || line == null) {
+            throw new IllegalStateException("Run failed: " + line);
+        }
+        String[] times = line.trim().split(" ");
+        return new long[] {Long.parseLong(times[0]), Long.parseLong(times[1])};
+    }
+
+    // Runs in the new JVM
+    private static void probe() throws ClassNotFoundException, MalformedNumberException,
+            ValueOutOfBoundsException {
+        long start = System.nanoTime();
+        Class.forName(ElbonianArabicConverter.class.getName());
+        long loaded = System.nanoTime();
+        int value = new ElbonianArabicConverter("MMXXKII").toArabic();
+        String numeral = new ElbonianArabicConverter("1026").toElbonian();
+        long converted = System.nanoTime();
+        if(value != 2028 || !numeral.equals("MXXK")) {
+            throw new IllegalStateException("Wrong conversion: " + value + " " + numeral);
+        }
+        System.out.println((loaded - start) + " " + (converted - loaded));
+    }
+
+    private static String summary(long[] times, long unit) {
+        long[] sorted = times.clone();
+        Arrays.sort(sorted);
+        return String.format("median %,d, min %,d", sorted[sorted.length / 2] / unit, sorted[0] / unit);
+    }
+
+}
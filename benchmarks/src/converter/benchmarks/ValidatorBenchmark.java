@@ -0,0 +1,87 @@
+package converter.benchmarks;
+
+import converter.ElbonianArabicConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Elbonian validators of the ElbonianArabicConverter against the original three pass
+ * validators kept in the ReferenceConverter.
+ *
+ * @version 10/18/26
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    @Param({"elbonian", "invalid"})
+    public String mix;
+
+    private String[] inputs;
+    private ElbonianArabicConverter converter;
+    private ReferenceConverter reference;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws MalformedNumberException, ValueOutOfBoundsException {
+        inputs = Inputs.generate(mix);
+        converter = new ElbonianArabicConverter("I");
+        reference = new ReferenceConverter("I");
+    }
+
+    private String nextInput() {
+        next = next + 1 & Inputs.SIZE - 1;
+        return inputs[next];
+    }
+
+    @Benchmark
+    public boolean singlePass() {
+        try {
+            String input = nextInput();
+            converter.checkValidCharacters(input);
+            converter.checkDuplicates(input);
+            converter.checkOrder(input);
+            return true;
+        } catch(MalformedNumberException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean threePassReference() {
+        try {
+            String input = nextInput();
+            reference.checkValidCharacters(input);
+            reference.checkDuplicates(input);
+            reference.checkOrder(input);
+            return true;
+        } catch(MalformedNumberException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public int classify() {
+        String input = nextInput();
+        return ElbonianArabicConverter.classify(input, 0, input.length());
+    }
+
+}
@@ -0,0 +1,57 @@
+package converter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A CharSequence view of ASCII bytes in a ByteBuffer, so that bytes the Elbonian automaton rejects can be
+ * checked rule by rule with the same code as characters. Each byte is read as the character with the same
+ * code; bytes above 127 read as characters that are never valid.
+ *
+ * @version 10/18/26
+ */
+final class AsciiSequence implements CharSequence {
+
+    private ByteBuffer buffer;
+    private int offset;
+    private int length;
+
+    /**
+     * Points the view at a region of a buffer. The buffer's position and limit are not used or changed.
+     *
+     * @param buffer The buffer holding the bytes
+     * @param offset The index of the first byte
+     * @param length The number of bytes
+     * @return This view
+     */
+    AsciiSequence reset(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (buffer.get(offset + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().substring(start, end);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(length);
+        for(int a = 0; a < length; a++) {
+            builder.append(charAt(a));
+        }
+        return builder.toString();
+    }
+
+}
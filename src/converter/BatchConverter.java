@@ -0,0 +1,145 @@
+package converter;
+
+import java.nio.CharBuffer;
+
+/**
+ * Converts whole columns of values at once. Each method fills a caller supplied output array and, instead
+ * of throwing, returns a bitmap of the positions that could not be converted: bit i % 64 of word i / 64 is
+ * set when element i failed. Use isError to read it.
+ *
+ * @version 10/18/26
+ */
+public final class BatchConverter {
+
+    /**
+     * The most characters a single Elbonian numeral can take, for sizing packed output arrays.
+     */
+    public static final int MAX_NUMERAL_LENGTH = ElbonianTables.MAX_LENGTH;
+
+    private BatchConverter() {
+    }
+
+    /**
+     * Checks whether an element failed to convert.
+     *
+     * @param errors A bitmap returned by one of the conversion methods
+     * @param index The index of the element
+     * @return True if the element at the index could not be converted
+     */
+    public static boolean isError(long[] errors, int index) {
+        return (errors[index >>> 6] & 1L << index) != 0;
+    }
+
+    /**
+     * Classifies every String the way ElbonianArabicConverter.classify does.
+     *
+     * @param in The Strings to classify, which may have leading and trailing spaces
+     * @param results Receives the result code for each String; read them with ConversionResult
+     * @return The bitmap of the Strings that are not valid
+     */
+    public static long[] classify(String[] in, int[] results) {
+        long[] errors = new long[in.length + 63 >>> 6];
+        for(int a = 0; a < in.length; a++) {
+            int result = ElbonianArabicConverter.classify(in[a], 0, in[a].length());
+            results[a] = result;
+            if(result < 0) {
+                errors[a >>> 6] |= 1L << a;
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Converts Strings holding Arabic numbers or Elbonian numerals to their Arabic values.
+     *
+     * @param in The Strings to convert, which may have leading and trailing spaces
+     * @param out Receives the value of each String, or 0 where it could not be converted
+     * @return The bitmap of the Strings that could not be converted
+     */
+    public static long[] toArabic(String[] in, int[] out) {
+        long[] errors = new long[in.length + 63 >>> 6];
+        for(int a = 0; a < in.length; a++) {
+            int result = ElbonianArabicConverter.classify(in[a], 0, in[a].length());
+            out[a] = result < 0 ? 0 : ConversionResult.value(result);
+            if(result < 0) {
+                errors[a >>> 6] |= 1L << a;
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Converts numbers packed into one character array to their Arabic values. Number i is held between
+     * offsets[i] and offsets[i + 1].
+     *
+     * @param in The packed numbers
+     * @param offsets The start of each number, followed by the end of the last one
+     * @param out Receives the value of each number, or 0 where it could not be converted
+     * @return The bitmap of the numbers that could not be converted
+     */
+    public static long[] toArabic(char[] in, int[] offsets, int[] out) {
+        int count = offsets.length - 1;
+        CharBuffer chars = CharBuffer.wrap(in);
+        long[] errors = new long[count + 63 >>> 6];
+        for(int a = 0; a < count; a++) {
+            int result = ElbonianArabicConverter.classify(chars, offsets[a], offsets[a + 1]);
+            out[a] = result < 0 ? 0 : ConversionResult.value(result);
+            if(result < 0) {
+                errors[a >>> 6] |= 1L << a;
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Converts Arabic values to Elbonian numerals. The numerals are shared, so converting the same value
+     * twice gives the same String instance.
+     *
+     * @param in The values to convert
+     * @param out Receives the numeral for each value, or null where the value is out of bounds
+     * @return The bitmap of the values that are out of bounds
+     */
+    public static long[] toElbonian(int[] in, String[] out) {
+        long[] errors = new long[in.length + 63 >>> 6];
+        for(int a = 0; a < in.length; a++) {
+            int value = in[a];
+            if(value >= ElbonianTables.MIN_VALUE && value <= ElbonianTables.MAX_VALUE) {
+                out[a] = ElbonianTables.numeral(value);
+            } else {
+                out[a] = null;
+                errors[a >>> 6] |= 1L << a;
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Converts Arabic values to Elbonian numerals packed one after another into a character array. Numeral i
+     * is written between offsets[i] and offsets[i + 1]; a value that is out of bounds gets an empty range.
+     * An out array of in.length * MAX_NUMERAL_LENGTH characters is always large enough.
+     *
+     * @param in The values to convert
+     * @param out Receives the packed numerals
+     * @param offsets Receives the start of each numeral followed by the end of the last one, so it must
+     * have room for in.length + 1 entries
+     * @return The bitmap of the values that are out of bounds
+     */
+    public static long[] toElbonian(int[] in, char[] out, int[] offsets) {
+        long[] errors = new long[in.length + 63 >>> 6];
+        int position = 0;
+        for(int a = 0; a < in.length; a++) {
+            offsets[a] = position;
+            int value = in[a];
+            if(value >= ElbonianTables.MIN_VALUE && value <= ElbonianTables.MAX_VALUE) {
+                String numeral = ElbonianTables.numeral(value);
+                numeral.getChars(0, numeral.length(), out, position);
+                position += numeral.length();
+            } else {
+                errors[a >>> 6] |= 1L << a;
+            }
+        }
+        offsets[in.length] = position;
+        return errors;
+    }
+
+}
@@ -0,0 +1,318 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, thread safe cache of conversion results keyed on the raw input String, spaces and all. Both
+ * successful conversions and failures are remembered, so a malformed value that keeps coming back is only
+ * checked once.
+ *
+ * The cache is split into stripes, each with its own lock, chosen by the hash of the input. Each stripe is a
+ * segmented LRU: new entries go into a probation segment and only move to the protected segment when they
+ * are used again, so a long tail of values seen once cannot push out the values that keep recurring.
+ *
+ * A stripe keeps its entries in arrays allocated up front: the keys, the int result codes, and the links of
+ * the two least recently used lists, found through an open addressing table of entry indexes. Lookups,
+ * promotions and evictions move indexes around and allocate nothing, and result codes are never boxed.
+ *
+ * @version 10/18/26
+ */
+public final class ConversionCache {
+
+    // The share of each stripe kept for entries that have been used more than once
+    private static final double PROTECTED_SHARE = 0.8;
+
+    private final Stripe[] stripes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache with one stripe for every four processors' worth of threads.
+     *
+     * @param maximumSize The most entries the cache holds
+     */
+    public ConversionCache(int maximumSize) {
+        this(maximumSize, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 4));
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param maximumSize The most entries the cache holds; room for all of them is allocated up front
+     * @param stripeCount The number of independently locked stripes; rounded up to a power of two
+     */
+    public ConversionCache(int maximumSize, int stripeCount) {
+        if(maximumSize < 1 || stripeCount < 1) {
+            throw new IllegalArgumentException("Cache size and stripe count must be at least 1");
+        }
+        int count = Integer.highestOneBit(stripeCount - 1 << 1 | 1);
+        count = Math.min(count, Integer.highestOneBit(maximumSize));
+        stripes = new Stripe[count];
+        for(int a = 0; a < count; a++) {
+            stripes[a] = new Stripe(maximumSize / count + (a < maximumSize % count ? 1 : 0));
+        }
+    }
+
+    /**
+     * Classifies an input like ElbonianArabicConverter.classify, using the cached result if there is one.
+     *
+     * @param number The input, which may have leading and trailing spaces
+     * @return The result code for the input
+     */
+    public int classify(String number) {
+        int hash = number.hashCode();
+        Stripe stripe = stripes[(hash ^ hash >>> 16) & stripes.length - 1];
+        int cached = 0;
+        boolean found;
+        synchronized(stripe) {
+            int entry = stripe.get(number);
+            found = entry >= 0;
+            if(found) {
+                cached = stripe.results[entry];
+            }
+        }
+        if(found) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        int result = ElbonianArabicConverter.classify(number, 0, number.length());
+        synchronized(stripe) {
+            if(stripe.put(number, result)) {
+                evictions.increment();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Converts an input to its Arabic value, using the cached result if there is one.
+     *
+     * @param number The input, which may have leading and trailing spaces
+     * @return The Arabic value of the input
+     * @throws MalformedNumberException Thrown if the input is not a valid number.
+     * @throws ValueOutOfBoundsException Thrown if the input is an Arabic number that cannot be represented in
+     * the Elbonian number system.
+     */
+    public int toArabic(String number) throws MalformedNumberException, ValueOutOfBoundsException {
+        return ConversionResult.valueOrThrow(classify(number), number);
+    }
+
+    /**
+     * Converts an input to its shared Elbonian numeral, using the cached result if there is one.
+     *
+     * @param number The input, which may have leading and trailing spaces
+     * @return The Elbonian numeral for the input
+     * @throws MalformedNumberException Thrown if the input is not a valid number.
+     * @throws ValueOutOfBoundsException Thrown if the input is an Arabic number that cannot be represented in
+     * the Elbonian number system.
+     */
+    public String toElbonian(String number) throws MalformedNumberException, ValueOutOfBoundsException {
+        return ElbonianTables.numeral(ConversionResult.valueOrThrow(classify(number), number));
+    }
+
+    /**
+     * @return The number of lookups answered from the cache
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of lookups that had to classify the input
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of entries dropped to stay within the maximum size
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return The number of entries in the cache
+     */
+    public int size() {
+        int size = 0;
+        for(Stripe stripe : stripes) {
+            synchronized(stripe) {
+                size += stripe.size;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Removes every entry. The statistics are kept.
+     */
+    public void clear() {
+        for(Stripe stripe : stripes) {
+            synchronized(stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    /**
+     * One lock's worth of the cache, holding a probation and a protected segment in least recently used
+     * order. Each segment is a circular doubly linked list through the entry indexes, with a sentinel index
+     * past the last entry as its head: the entry after the head is the oldest and the one before it the
+     * newest. Callers hold the stripe's lock.
+     */
+    private static final class Stripe {
+
+        final String[] keys;
+        final int[] results;
+        final int[] previous;
+        final int[] next;
+        final boolean[] isProtected;
+        // Entry index + 1 for each key, at the first free slot from its hash, or 0 where there is none
+        final int[] table;
+        final int capacity;
+        final int protectedCapacity;
+        final int probationHead;
+        final int protectedHead;
+        // Moves the top bits of a mixed hash down to a table index
+        final int shift;
+        int size;
+        int protectedSize;
+
+        Stripe(int capacity) {
+            this.capacity = capacity;
+            this.protectedCapacity = (int) (capacity * PROTECTED_SHARE);
+            keys = new String[capacity];
+            results = new int[capacity];
+            previous = new int[capacity + 2];
+            next = new int[capacity + 2];
+            isProtected = new boolean[capacity];
+            // At most half full, so that searches stay short
+            table = new int[Integer.highestOneBit(capacity * 2 - 1) << 1];
+            shift = Integer.numberOfLeadingZeros(table.length - 1);
+            probationHead = capacity;
+            protectedHead = capacity + 1;
+            clear();
+        }
+
+        void clear() {
+            Arrays.fill(keys, null);
+            Arrays.fill(table, 0);
+            previous[probationHead] = next[probationHead] = probationHead;
+            previous[protectedHead] = next[protectedHead] = protectedHead;
+            size = 0;
+            protectedSize = 0;
+        }
+
+        /**
+         * @return The index of the entry for the input, or -1 if there is none
+         */
+        int get(String number) {
+            int slot = find(number);
+            int entry = table[slot] - 1;
+            if(entry < 0) {
+                return -1;
+            }
+            unlink(entry);
+            if(isProtected[entry]) {
+                append(entry, protectedHead);
+                return entry;
+            }
+            // Used a second time, so promote it and demote the protected segment's oldest entry if full
+            isProtected[entry] = true;
+            append(entry, protectedHead);
+            if(++protectedSize > protectedCapacity) {
+                int oldest = next[protectedHead];
+                unlink(oldest);
+                isProtected[oldest] = false;
+                protectedSize--;
+                append(oldest, probationHead);
+            }
+            return entry;
+        }
+
+        /**
+         * @return True if an entry had to be evicted to make room
+         */
+        boolean put(String number, int result) {
+            int slot = find(number);
+            if(table[slot] != 0) {
+                // Another thread added it while this one was classifying
+                return false;
+            }
+            boolean evicted = size == capacity;
+            int entry;
+            if(evicted) {
+                // The protected segment is always smaller than the stripe, so the probation segment has one
+                entry = next[probationHead];
+                unlink(entry);
+                remove(entry);
+                slot = find(number);
+            } else {
+                entry = size++;
+            }
+            keys[entry] = number;
+            results[entry] = result;
+            isProtected[entry] = false;
+            append(entry, probationHead);
+            table[slot] = entry + 1;
+            return evicted;
+        }
+
+        /**
+         * @return The slot in the table holding the input's entry, or the free slot where it belongs
+         */
+        private int find(String number) {
+            int mask = table.length - 1;
+            int slot = home(number);
+            for(int entry; (entry = table[slot] - 1) >= 0; slot = slot + 1 & mask) {
+                if(keys[entry].equals(number)) {
+                    break;
+                }
+            }
+            return slot;
+        }
+
+        private int home(String number) {
+            // The stripe was chosen by the low bits of the hash, so take the index from the top bits
+            return number.hashCode() * 0x9E3779B9 >>> shift;
+        }
+
+        /**
+         * Takes an entry out of the table, moving back any entries that searches would no longer reach.
+         */
+        private void remove(int entry) {
+            int mask = table.length - 1;
+            int free = find(keys[entry]);
+            for(int slot = free + 1 & mask; table[slot] != 0; slot = slot + 1 & mask) {
+                int home = home(keys[table[slot] - 1]);
+                if((slot - home & mask) >= (slot - free & mask)) {
+                    table[free] = table[slot];
+                    free = slot;
+                }
+            }
+            table[free] = 0;
+            keys[entry] = null;
+        }
+
+        private void unlink(int entry) {
+            next[previous[entry]] = next[entry];
+            previous[next[entry]] = previous[entry];
+        }
+
+        private void append(int entry, int head) {
+            int newest = previous[head];
+            next[newest] = entry;
+            previous[entry] = newest;
+            next[entry] = head;
+            previous[head] = entry;
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+package converter;
+
+/**
+ * The reasons a String can fail to convert. Each reason matches one of the rules that the
+ * ElbonianArabicConverter checks, and carries a description of the failure. The Exceptions thrown for it
+ * use getMessage(char), which keeps the original converter's message for each symbol and group.
+ *
+ * @version 10/18/26
+ */
+public enum ConversionError {
+
+    // A character that is neither an Elbonian symbol nor part of an Arabic number
+    INVALID_CHARACTER("Number should only contain valid characters"),
+
+    // M, C, X or I more than twice, or D, E, Y, Z, J or K more than once
+    TOO_MANY_REPEATS("M, C, X, and I can only appear a maximum of 2 times and D, E, Y, Z, J, and K only once in a number"),
+
+    // C with both D and E, X with both Y and Z, or I with both J and K
+    EXCLUDED_COMBINATION("C, X, and I cannot appear with both D and E, Y and Z, or J and K respectively"),
+
+    // A symbol written after a symbol of smaller value
+    OUT_OF_ORDER("Numbers not in proper order"),
+
+    // An Arabic number that cannot be written as an Elbonian numeral
+    OUT_OF_RANGE("Number must be between 0 and 2999");
+
+    private final String message;
+
+    ConversionError(String message) {
+        this.message = message;
+    }
+
+    /**
+     * @return A description of the error
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Gives the message the ElbonianArabicConverter throws for this error when it is found at a symbol. Too
+     * many repeats and excluded combinations have one message for each kind of symbol or excluded group,
+     * and the symbol picks which.
+     *
+     * @param symbol The character at the offset of the error
+     * @return The message for the error at that character
+     */
+    public String getMessage(char symbol) {
+        if(this == TOO_MANY_REPEATS) {
+            return "MCXI".indexOf(symbol) >= 0 ? "M, C, X, and I can only appear a maximum of 2 times in a number"
+                    : "D, E, Y, Z, J, and K can only appear once in a number";
+        }
+        if(this == EXCLUDED_COMBINATION) {
+            return "EDC".indexOf(symbol) >= 0 ? "C cannot appear if D and E are in the number"
+                    : "ZYX".indexOf(symbol) >= 0 ? "X cannot appear if Y and Z are in the number"
+                    : "I cannot appear if J and K are in the number";
+        }
+        return message;
+    }
+
+}
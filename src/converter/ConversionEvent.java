@@ -0,0 +1,33 @@
+package converter;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for one input checked by the ElbonianArabicConverter constructor. Only emitted
+ * when the ConverterMetrics are enabled and a recording has the event turned on.
+ *
+ * @version 10/18/26
+ */
+@Name("converter.Conversion")
+@Label("Elbonian Conversion")
+@Category("Elbonian Converter")
+@Description("An input checked by the ElbonianArabicConverter")
+final class ConversionEvent extends Event {
+
+    @Label("Input")
+    String input;
+
+    @Label("Elbonian")
+    boolean elbonian;
+
+    @Label("Value")
+    int value;
+
+    @Label("Error")
+    String error;
+
+}
@@ -0,0 +1,427 @@
+package converter;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A Flow.Processor that converts a stream of Arabic numbers and Elbonian numerals to the chosen Direction.
+ * Items are requested from upstream and converted in batches, and are only requested while the subscriber
+ * has demand that the items already held cannot meet.
+ *
+ * An item that cannot be converted does not end the stream. It is left out of the output and published on
+ * errors() instead, in the same order as the items around it. A blank item is converted to the empty
+ * String. Publishing a rejected item never waits: an errors() subscriber that falls more than
+ * Flow.defaultBufferSize() items behind misses the ones that arrive while its buffer is full, and they are
+ * counted by getDroppedErrors(). The errors are delivered on the common ForkJoinPool, not on the Executor
+ * the batches are converted on, so a slow errors() subscriber cannot hold up the output.
+ *
+ * Given an Executor, batches are converted on it and several can be in progress at once, but items are
+ * always passed on in the order they arrived.
+ *
+ * @version 10/18/26
+ */
+public final class ConversionProcessor implements Flow.Processor<String, String> {
+
+    /**
+     * An item that could not be converted.
+     */
+    public static final class Rejected {
+
+        private final String input;
+        private final long index;
+        private final int result;
+
+        Rejected(String input, long index, int result) {
+            this.input = input;
+            this.index = index;
+            this.result = result;
+        }
+
+        /**
+         * @return The item as it was received
+         */
+        public String getInput() {
+            return input;
+        }
+
+        /**
+         * @return The position of the item in the stream, starting at 0
+         */
+        public long getIndex() {
+            return index;
+        }
+
+        /**
+         * @return Why the item could not be converted
+         */
+        public ConversionError getError() {
+            return ConversionResult.errorKind(result);
+        }
+
+        /**
+         * @return The index of the character in the item where the problem was found
+         */
+        public int getOffset() {
+            return ConversionResult.offset(result);
+        }
+
+        @Override
+        public String toString() {
+            return "Item " + index + ": " + getError().getMessage() + " at " + getOffset();
+        }
+    }
+
+    // The default number of items requested and converted together
+    private static final int BATCH_SIZE = 256;
+
+    // How many batches can be converted at once when an Executor is given
+    private static final int MAX_PENDING_BATCHES = 4;
+
+    /**
+     * A run of items received together, and their conversions once they are ready.
+     */
+    private static final class Batch {
+        final String[] inputs;
+        final long firstIndex;
+        int size;
+        String[] outputs;
+        int[] results;
+        volatile boolean converted;
+        int emitted;
+
+        Batch(int capacity, long firstIndex) {
+            this.inputs = new String[capacity];
+            this.firstIndex = firstIndex;
+        }
+    }
+
+    private final StreamConverter.Direction direction;
+    private final int batchSize;
+    private final Executor executor;
+    private final int maxPending;
+    private final SubmissionPublisher<Rejected> errors;
+    private final AtomicLong droppedErrors = new AtomicLong();
+
+    // Counts calls to drain() so that only one thread passes items on at a time
+    private final AtomicInteger wip = new AtomicInteger();
+
+    // The rest of the state is guarded by this
+    private final ArrayDeque<Batch> batches = new ArrayDeque<>();
+    private Batch filling;
+    private Flow.Subscription upstream;
+    private boolean subscribed;
+    private Flow.Subscriber<? super String> downstream;
+    private long requested;
+    // Items requested from upstream or held in batches but not yet passed on
+    private long buffered;
+    private long received;
+    private boolean upstreamDone;
+    private Throwable upstreamError;
+    private boolean terminated;
+
+    /**
+     * Creates a processor that converts items on the thread that delivers them.
+     *
+     * @param direction The form each item is converted to
+     */
+    public ConversionProcessor(StreamConverter.Direction direction) {
+        this(direction, BATCH_SIZE, null);
+    }
+
+    /**
+     * Creates a processor.
+     *
+     * @param direction The form each item is converted to
+     * @param batchSize The number of items requested and converted together
+     * @param executor Converts the batches, or null to convert them on the thread that delivers the items
+     */
+    public ConversionProcessor(StreamConverter.Direction direction, int batchSize, Executor executor) {
+        if(batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.direction = Objects.requireNonNull(direction);
+        this.batchSize = batchSize;
+        this.executor = executor;
+        this.maxPending = executor == null ? 1 : MAX_PENDING_BATCHES;
+        this.errors = new SubmissionPublisher<>();
+    }
+
+    /**
+     * @return A publisher of the items that could not be converted. It completes when this processor does.
+     */
+    public Flow.Publisher<Rejected> errors() {
+        return errors;
+    }
+
+    /**
+     * @return The number of rejected items that errors() subscribers missed because their buffers were full,
+     * counted once for each subscriber that missed one
+     */
+    public long getDroppedErrors() {
+        return droppedErrors.get();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super String> subscriber) {
+        Objects.requireNonNull(subscriber);
+        boolean first;
+        synchronized(this) {
+            first = !subscribed;
+            subscribed = true;
+        }
+        if(!first) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("ConversionProcessor allows only one subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new Subscription());
+        // Items are only passed on once onSubscribe has returned
+        synchronized(this) {
+            downstream = subscriber;
+        }
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        synchronized(this) {
+            if(upstream == null && !terminated) {
+                upstream = subscription;
+                subscription = null;
+            }
+        }
+        if(subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        drain();
+    }
+
+    @Override
+    public void onNext(String item) {
+        Objects.requireNonNull(item);
+        Batch full = null;
+        synchronized(this) {
+            if(filling == null || terminated) {
+                return;
+            }
+            filling.inputs[filling.size++] = item;
+            received++;
+            if(filling.size == batchSize) {
+                full = filling;
+                filling = null;
+            }
+        }
+        if(full != null) {
+            submit(full);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable);
+        synchronized(this) {
+            upstreamError = throwable;
+        }
+        onComplete();
+    }
+
+    @Override
+    public void onComplete() {
+        Batch partial;
+        synchronized(this) {
+            if(upstreamDone) {
+                return;
+            }
+            upstreamDone = true;
+            partial = filling;
+            filling = null;
+            if(partial != null) {
+                buffered -= batchSize - partial.size;
+            }
+        }
+        if(partial != null) {
+            submit(partial);
+        } else {
+            drain();
+        }
+    }
+
+    private void submit(Batch batch) {
+        if(executor != null) {
+            try {
+                executor.execute(() -> {
+                    convert(batch);
+                    drain();
+                });
+                return;
+            } catch(RejectedExecutionException e) {
+                // Fall through and convert it here instead
+            }
+        }
+        convert(batch);
+        drain();
+    }
+
+    private void convert(Batch batch) {
+        String[] outputs = new String[batch.size];
+        int[] results = new int[batch.size];
+        for(int a = 0; a < batch.size; a++) {
+            String input = batch.inputs[a];
+            int result = ElbonianArabicConverter.classify(input, 0, input.length());
+            results[a] = result;
+            if(ConversionResult.isError(result)) {
+                continue;
+            }
+            int value = ConversionResult.value(result);
+            boolean elbonian = direction == StreamConverter.Direction.ELBONIAN
+                    || direction == StreamConverter.Direction.SWAP && !ConversionResult.isElbonian(result);
+            outputs[a] = elbonian ? ElbonianTables.numeral(value)
+                    : value == 0 ? "" : ElbonianTables.decimal(value);
+        }
+        batch.outputs = outputs;
+        batch.results = results;
+        batch.converted = true;
+    }
+
+    /**
+     * Passes on every converted item the subscriber has asked for, finishes the stream once everything has
+     * been passed on, and asks upstream for another batch if more items are needed. Only one thread runs
+     * the loop at a time; a call made while it is running makes it go round again.
+     */
+    private void drain() {
+        if(wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            while(true) {
+                Flow.Subscriber<? super String> subscriber;
+                String output = null;
+                Rejected rejected = null;
+                synchronized(this) {
+                    Batch head = batches.peek();
+                    if(terminated || downstream == null || head == null || !head.converted) {
+                        break;
+                    }
+                    if(head.emitted == head.size) {
+                        batches.poll();
+                        continue;
+                    }
+                    int a = head.emitted;
+                    if(head.outputs[a] != null) {
+                        if(requested == 0) {
+                            break;
+                        }
+                        requested--;
+                        output = head.outputs[a];
+                    } else {
+                        rejected = new Rejected(head.inputs[a], head.firstIndex + a, head.results[a]);
+                    }
+                    head.inputs[a] = null;
+                    head.emitted++;
+                    buffered--;
+                    subscriber = downstream;
+                }
+                if(output != null) {
+                    subscriber.onNext(output);
+                } else {
+                    // Never blocks, as drain may be running on the only thread that could make room
+                    errors.offer(rejected, (errorSubscriber, item) -> {
+                        droppedErrors.incrementAndGet();
+                        return false;
+                    });
+                }
+            }
+
+            Flow.Subscriber<? super String> finished = null;
+            Throwable error = null;
+            Flow.Subscription more = null;
+            synchronized(this) {
+                if(!terminated && downstream != null && upstreamDone && batches.isEmpty()) {
+                    terminated = true;
+                    finished = downstream;
+                    error = upstreamError;
+                } else if(!terminated && !upstreamDone && upstream != null && filling == null
+                        && batches.size() < maxPending && requested > buffered) {
+                    filling = new Batch(batchSize, received);
+                    batches.add(filling);
+                    buffered += batchSize;
+                    more = upstream;
+                }
+            }
+            if(finished != null) {
+                if(error != null) {
+                    errors.closeExceptionally(error);
+                    finished.onError(error);
+                } else {
+                    errors.close();
+                    finished.onComplete();
+                }
+            } else if(more != null) {
+                more.request(batchSize);
+                // Check again, as another batch may be wanted
+                wip.incrementAndGet();
+            }
+            missed = wip.addAndGet(-missed);
+        } while(missed != 0);
+    }
+
+    /**
+     * The subscriber's link to this processor.
+     */
+    private final class Subscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            if(n <= 0) {
+                cancel();
+                Flow.Subscriber<? super String> subscriber;
+                synchronized(ConversionProcessor.this) {
+                    subscriber = downstream;
+                }
+                if(subscriber != null) {
+                    subscriber.onError(new IllegalArgumentException("Request must be positive"));
+                }
+                return;
+            }
+            synchronized(ConversionProcessor.this) {
+                requested = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            Flow.Subscription subscription;
+            synchronized(ConversionProcessor.this) {
+                if(terminated) {
+                    return;
+                }
+                terminated = true;
+                batches.clear();
+                filling = null;
+                subscription = upstream;
+            }
+            errors.close();
+            if(subscription != null) {
+                subscription.cancel();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,134 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+/**
+ * Helpers for the int result codes returned by the exception free conversion methods. A result code is
+ * either a success, holding the Arabic value and whether the input was written in Elbonian or Arabic form,
+ * or an error, holding the ConversionError and the index of the character that caused it. Result codes are
+ * plain ints so that checking an input never allocates.
+ *
+ * @version 10/18/26
+ */
+public final class ConversionResult {
+
+    // Set on a success when the input was an Elbonian numeral rather than an Arabic number. The value below it
+    // has room for every value a NumeralSystem can have, up to Short.MAX_VALUE.
+    private static final int ELBONIAN = 1 << 15;
+    private static final int VALUE_MASK = ELBONIAN - 1;
+
+    // Errors are negative, with the error kind in the low bits and the offset above them
+    private static final int ERROR = 1 << 31;
+    private static final int KIND_BITS = 3;
+    private static final int KIND_MASK = (1 << KIND_BITS) - 1;
+    private static final ConversionError[] KINDS = ConversionError.values();
+
+    private ConversionResult() {
+    }
+
+    static int success(int value, boolean elbonian) {
+        return elbonian ? value | ELBONIAN : value;
+    }
+
+    static int error(ConversionError kind, int offset) {
+        return ERROR | offset << KIND_BITS | kind.ordinal();
+    }
+
+    /**
+     * @param result A result code
+     * @return True if the result code holds an error
+     */
+    public static boolean isError(int result) {
+        return result < 0;
+    }
+
+    /**
+     * @param result A successful result code
+     * @return True if the input was an Elbonian numeral, false if it was an Arabic number
+     */
+    public static boolean isElbonian(int result) {
+        return (result & ELBONIAN) != 0;
+    }
+
+    /**
+     * @param result A successful result code
+     * @return The Arabic value of the input
+     */
+    public static int value(int result) {
+        return result & VALUE_MASK;
+    }
+
+    /**
+     * @param result A result code
+     * @return The reason the input could not be converted, or null if the result code is a success
+     */
+    public static ConversionError errorKind(int result) {
+        return result < 0 ? KINDS[result & KIND_MASK] : null;
+    }
+
+    /**
+     * @param result A result code holding an error
+     * @return The index of the character that caused the error
+     */
+    public static int offset(int result) {
+        return (result & ~ERROR) >>> KIND_BITS;
+    }
+
+    /**
+     * Returns the value held by a result code, or throws the Exception the ElbonianArabicConverter
+     * constructor would throw for the same input.
+     *
+     * @param result A result code
+     * @return The Arabic value of the input
+     * @throws MalformedNumberException Thrown if the result code holds an error for a malformed number.
+     * @throws ValueOutOfBoundsException Thrown if the result code holds an error for a value that cannot be
+     * represented in the Elbonian number system.
+     */
+    public static int valueOrThrow(int result) throws MalformedNumberException, ValueOutOfBoundsException {
+        if(result >= 0) {
+            return result & VALUE_MASK;
+        }
+        ConversionError kind = errorKind(result);
+        if(kind == ConversionError.OUT_OF_RANGE) {
+            throw new ValueOutOfBoundsException(kind.getMessage());
+        }
+        throw new MalformedNumberException(kind.getMessage());
+    }
+
+    /**
+     * Returns the value held by a result code, or throws the Exception the ElbonianArabicConverter
+     * constructor would throw for the same input, with the same message, which for some errors depends on
+     * the symbol where the error was found.
+     *
+     * @param result A result code for the characters of number
+     * @param number The characters the result code was found for
+     * @return The Arabic value of the input
+     * @throws MalformedNumberException Thrown if the result code holds an error for a malformed number.
+     * @throws ValueOutOfBoundsException Thrown if the result code holds an error for a value that cannot be
+     * represented in the Elbonian number system.
+     */
+    public static int valueOrThrow(int result, CharSequence number) throws MalformedNumberException,
+            ValueOutOfBoundsException {
+        if(result >= 0) {
+            return result & VALUE_MASK;
+        }
+        ConversionError kind = errorKind(result);
+        if(kind == ConversionError.OUT_OF_RANGE) {
+            throw new ValueOutOfBoundsException(kind.getMessage());
+        }
+        throw new MalformedNumberException(message(result, number));
+    }
+
+    /**
+     * @param result A result code holding an error, found for the characters of number
+     * @param number The characters the result code was found for
+     * @return The message the ElbonianArabicConverter throws for the error
+     */
+    public static String message(int result, CharSequence number) {
+        ConversionError kind = errorKind(result);
+        int offset = offset(result);
+        return offset < number.length() ? kind.getMessage(number.charAt(offset)) : kind.getMessage();
+    }
+
+}
@@ -0,0 +1,184 @@
+package converter;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A small HTTP/1.1 conversion service on the JDK's built in HttpServer, bound to the loopback address.
+ *
+ * GET /toArabic?n=NUMBER and GET /toElbonian?n=NUMBER convert one number and answer with it as plain text,
+ * or with status 400 and the error when it cannot be converted. POST /batch?to=arabic|elbonian|swap
+ * converts every line of the request body and answers with one line per input line, in order; a line that
+ * cannot be converted is answered with "!" followed by the error and the index of the offending character
+ * in that line.
+ *
+ * Each request runs on a thread of its own from a cached pool, so slow clients do not hold up others.
+ *
+ * Responses are small, so without TCP_NODELAY each one waits about 40ms for a delayed ACK. main turns it on;
+ * a program that embeds the server should run with -Dsun.net.httpserver.nodelay=true. The property applies
+ * to every HttpServer in the JVM and is read once, so creating a server does not change it.
+ *
+ * @version 10/18/26
+ */
+public class ConversionServer {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Starts a conversion server on the loopback address.
+     *
+     * @param port The port to listen on, or 0 to pick a free one
+     * @throws IOException Thrown if the server cannot bind to the port.
+     */
+    public ConversionServer(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "conversion-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/toArabic", exchange -> convertOne(exchange, StreamConverter.Direction.ARABIC));
+        server.createContext("/toElbonian", exchange -> convertOne(exchange, StreamConverter.Direction.ELBONIAN));
+        server.createContext("/batch", this::convertBatch);
+        server.start();
+    }
+
+    /**
+     * @return The port the server is listening on
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops the server, waiting up to a second for requests in progress to finish.
+     */
+    public void stop() {
+        server.stop(1);
+        executor.shutdown();
+    }
+
+    private void convertOne(HttpExchange exchange, StreamConverter.Direction direction) throws IOException {
+        String number = parameter(exchange, "n");
+        if(number == null) {
+            respond(exchange, 400, "Missing parameter n\n".getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        int result = ElbonianArabicConverter.classify(number, 0, number.length());
+        StringBuilder builder = new StringBuilder();
+        append(builder, result, 0, direction);
+        builder.append('\n');
+        respond(exchange, ConversionResult.isError(result) ? 400 : 200,
+                builder.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private void convertBatch(HttpExchange exchange) throws IOException {
+        if(!"POST".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, "Use POST\n".getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        String to = parameter(exchange, "to");
+        StreamConverter.Direction direction = StreamConverter.Direction.SWAP;
+        if("arabic".equals(to)) {
+            direction = StreamConverter.Direction.ARABIC;
+        } else if("elbonian".equals(to)) {
+            direction = StreamConverter.Direction.ELBONIAN;
+        } else if(to != null && !"swap".equals(to)) {
+            respond(exchange, 400, "Parameter to must be arabic, elbonian or swap\n".getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+
+        byte[] body = readAll(exchange.getRequestBody());
+        StringBuilder builder = new StringBuilder();
+        int start = 0;
+        for(int a = 0; a <= body.length; a++) {
+            if(a == body.length || body[a] == '\n') {
+                if(a > start || a < body.length) {
+                    append(builder, ElbonianArabicConverter.classify(body, start, a), start, direction);
+                    builder.append('\n');
+                }
+                start = a + 1;
+            }
+        }
+        respond(exchange, 200, builder.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void append(StringBuilder builder, int result, int lineStart,
+            StreamConverter.Direction direction) {
+        if(ConversionResult.isError(result)) {
+            builder.append('!').append(ConversionResult.errorKind(result)).append(' ')
+                    .append(ConversionResult.offset(result) - lineStart);
+            return;
+        }
+        int value = ConversionResult.value(result);
+        boolean elbonian = direction == StreamConverter.Direction.ELBONIAN
+                || direction == StreamConverter.Direction.SWAP && !ConversionResult.isElbonian(result);
+        if(elbonian) {
+            builder.append(ElbonianTables.numeral(value));
+        } else if(value != 0) {
+            builder.append(value);
+        }
+    }
+
+    private static String parameter(HttpExchange exchange, String name) throws IOException {
+        String query = exchange.getRequestURI().getRawQuery();
+        if(query == null) {
+            return null;
+        }
+        for(String pair : query.split("&")) {
+            int equals = pair.indexOf('=');
+            if(equals > 0 && pair.substring(0, equals).equals(name)) {
+                return URLDecoder.decode(pair.substring(equals + 1), "UTF-8");
+            }
+        }
+        return null;
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while((read = in.read(buffer)) >= 0) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=US-ASCII");
+        exchange.sendResponseHeaders(status, body.length);
+        try(OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Turns on TCP_NODELAY for the JDK's HttpServer unless the command line already chose. Only takes effect
+     * if no HttpServer has been created yet.
+     */
+    static void enableNoDelay() {
+        if(System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        enableNoDelay();
+        ConversionServer server = new ConversionServer(args.length > 0 ? Integer.parseInt(args[0]) : 8080);
+        System.out.println("Conversion server listening on http://localhost:" + server.getPort() + "/");
+    }
+
+}
@@ -0,0 +1,191 @@
+package converter;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Optional instrumentation for the ElbonianArabicConverter. It counts inputs by form and failures by
+ * validator with striped LongAdder counters, keeps a power of two latency histogram, emits a
+ * ConversionEvent to Flight Recorder for each input, and publishes the counters as the JMX MBean
+ * converter:type=ConverterMetrics.
+ *
+ * The instrumentation is turned on by starting the JVM with -Dconverter.metrics=true. The switch is read
+ * once into a constant, so when it is off the JIT removes the instrumentation from the conversion paths
+ * entirely.
+ *
+ * @version 10/18/26
+ */
+public final class ConverterMetrics implements ConverterMetricsMBean {
+
+    /**
+     * True if the JVM was started with -Dconverter.metrics=true.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("converter.metrics");
+
+    private static final ConverterMetrics INSTANCE = new ConverterMetrics();
+
+    static {
+        if(ENABLED) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE,
+                        new ObjectName("converter:type=ConverterMetrics"));
+            } catch(JMException e) {
+                // Already registered by another class loader; the counters still work without JMX
+            }
+        }
+    }
+
+    private final LongAdder arabicInputs = new LongAdder();
+    private final LongAdder elbonianInputs = new LongAdder();
+    private final LongAdder[] failures = new LongAdder[ConversionError.values().length];
+    private final LongAdder conversions = new LongAdder();
+    private final LongAdder[] latency = new LongAdder[64];
+
+    private ConverterMetrics() {
+        for(int a = 0; a < failures.length; a++) {
+            failures[a] = new LongAdder();
+        }
+        for(int a = 0; a < latency.length; a++) {
+            latency[a] = new LongAdder();
+        }
+    }
+
+    /**
+     * @return The metrics shared by every converter in this JVM
+     */
+    public static ConverterMetrics get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Classifies an input the way the constructor does and records the outcome. Only called when ENABLED.
+     */
+    static int classify(String number) {
+        ConversionEvent event = new ConversionEvent();
+        event.begin();
+        long start = System.nanoTime();
+        int result = ElbonianArabicConverter.classify(number, 0, number.length());
+        long nanos = System.nanoTime() - start;
+        event.end();
+
+        INSTANCE.latency[63 - Long.numberOfLeadingZeros(Math.max(nanos, 1))].increment();
+        if(ConversionResult.isError(result)) {
+            ConversionError kind = ConversionResult.errorKind(result);
+            INSTANCE.failures[kind.ordinal()].increment();
+            if(kind == ConversionError.OUT_OF_RANGE) {
+                INSTANCE.arabicInputs.increment();
+            }
+        } else if(ConversionResult.isElbonian(result)) {
+            INSTANCE.elbonianInputs.increment();
+        } else {
+            INSTANCE.arabicInputs.increment();
+        }
+
+        if(event.shouldCommit()) {
+            event.input = number;
+            event.elbonian = !ConversionResult.isError(result) && ConversionResult.isElbonian(result);
+            event.value = ConversionResult.isError(result) ? 0 : ConversionResult.value(result);
+            event.error = ConversionResult.isError(result) ? ConversionResult.errorKind(result).name() : null;
+            event.commit();
+        }
+        return result;
+    }
+
+    /**
+     * Records a toArabic or toElbonian call. Only called when ENABLED.
+     */
+    static void conversion() {
+        INSTANCE.conversions.increment();
+    }
+
+    @Override
+    public long getArabicInputs() {
+        return arabicInputs.sum();
+    }
+
+    @Override
+    public long getElbonianInputs() {
+        return elbonianInputs.sum();
+    }
+
+    @Override
+    public long getInvalidCharacterFailures() {
+        return failures[ConversionError.INVALID_CHARACTER.ordinal()].sum();
+    }
+
+    @Override
+    public long getDuplicateFailures() {
+        return failures[ConversionError.TOO_MANY_REPEATS.ordinal()].sum()
+                + failures[ConversionError.EXCLUDED_COMBINATION.ordinal()].sum();
+    }
+
+    @Override
+    public long getOrderFailures() {
+        return failures[ConversionError.OUT_OF_ORDER.ordinal()].sum();
+    }
+
+    @Override
+    public long getOutOfRangeFailures() {
+        return failures[ConversionError.OUT_OF_RANGE.ordinal()].sum();
+    }
+
+    @Override
+    public long getConversions() {
+        return conversions.sum();
+    }
+
+    @Override
+    public long getLatencyP50Nanos() {
+        return percentile(0.5);
+    }
+
+    @Override
+    public long getLatencyP99Nanos() {
+        return percentile(0.99);
+    }
+
+    @Override
+    public long[] getLatencyHistogram() {
+        long[] histogram = new long[latency.length];
+        for(int a = 0; a < latency.length; a++) {
+            histogram[a] = latency[a].sum();
+        }
+        return histogram;
+    }
+
+    /**
+     * Estimates a latency percentile from the histogram as the upper bound of the bucket it falls in.
+     */
+    private long percentile(double fraction) {
+        long[] histogram = getLatencyHistogram();
+        long total = 0;
+        for(long count : histogram) {
+            total += count;
+        }
+        long rank = (long) Math.ceil(total * fraction);
+        long seen = 0;
+        for(int a = 0; a < histogram.length; a++) {
+            seen += histogram[a];
+            if(seen >= rank && seen > 0) {
+                return a >= 62 ? Long.MAX_VALUE : (1L << a + 1) - 1;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public void reset() {
+        arabicInputs.reset();
+        elbonianInputs.reset();
+        conversions.reset();
+        for(LongAdder counter : failures) {
+            counter.reset();
+        }
+        for(LongAdder counter : latency) {
+            counter.reset();
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+package converter;
+
+/**
+ * The JMX view of the ConverterMetrics. Failures are grouped by the validator that reports them.
+ *
+ * @version 10/18/26
+ */
+public interface ConverterMetricsMBean {
+
+    /**
+     * @return The number of inputs that were Arabic numbers, valid or not
+     */
+    long getArabicInputs();
+
+    /**
+     * @return The number of inputs that were valid Elbonian numerals
+     */
+    long getElbonianInputs();
+
+    /**
+     * @return The number of inputs rejected by checkValidCharacters
+     */
+    long getInvalidCharacterFailures();
+
+    /**
+     * @return The number of inputs rejected by checkDuplicates
+     */
+    long getDuplicateFailures();
+
+    /**
+     * @return The number of inputs rejected by checkOrder
+     */
+    long getOrderFailures();
+
+    /**
+     * @return The number of inputs rejected by checkInRange
+     */
+    long getOutOfRangeFailures();
+
+    /**
+     * @return The number of toArabic and toElbonian calls
+     */
+    long getConversions();
+
+    /**
+     * @return The median time taken to check an input, in nanoseconds
+     */
+    long getLatencyP50Nanos();
+
+    /**
+     * @return The 99th percentile time taken to check an input, in nanoseconds
+     */
+    long getLatencyP99Nanos();
+
+    /**
+     * @return The latency histogram: entry i counts the checks that took from 2^i up to 2^(i+1) nanoseconds
+     */
+    long[] getLatencyHistogram();
+
+    /**
+     * Sets every counter back to zero.
+     */
+    void reset();
+
+}
@@ -0,0 +1,254 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Command line tool that converts newline separated numbers from files, or from standard input when no file
+ * is given, and writes one converted number per line to standard output. When it finishes it prints the
+ * number of rows and errors and the throughput to standard error.
+ *
+ * Usage: java converter.ConverterTool [--to-arabic | --to-elbonian] [--parallel N]
+ * [--skip-invalid | --fail-fast] [file ...]
+ *
+ * Without a direction each line is converted to the other form. By default invalid lines are skipped; with
+ * --fail-fast the tool stops at the first one and exits with status 1.
+ *
+ * @version 10/18/26
+ */
+public class ConverterTool {
+
+    // The number of lines converted together in parallel mode
+    private static final int CHUNK = 1 << 18;
+
+    // The size of the read buffer in parallel mode, which is also the longest line that can be converted
+    private static final int BUFFER_SIZE = 1 << 24;
+
+    private StreamConverter.Direction direction = StreamConverter.Direction.SWAP;
+    private boolean skipInvalid = true;
+    private int parallelism = 1;
+    private final List<String> files = new ArrayList<>();
+
+    private long lineNumber;
+    private long rows;
+    private long errors;
+    private long bytesRead;
+    private long bytesWritten;
+
+    public static void main(String[] args) {
+        ConverterTool tool = new ConverterTool();
+        try {
+            tool.parseArguments(args);
+        } catch(IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: java converter.ConverterTool [--to-arabic | --to-elbonian] [--parallel N] "
+                    + "[--skip-invalid | --fail-fast] [file ...]");
+            System.exit(2);
+        }
+
+        int status = 0;
+        long start = System.nanoTime();
+        try {
+            tool.run();
+        } catch(MalformedNumberException | ValueOutOfBoundsException e) {
+            System.err.println(e.getMessage());
+            status = 1;
+        } catch(IOException e) {
+            System.err.println("I/O error: " + e.getMessage());
+            status = 1;
+        }
+        tool.report(System.nanoTime() - start);
+        System.exit(status);
+    }
+
+    private void parseArguments(String[] args) {
+        for(int a = 0; a < args.length; a++) {
+            switch(args[a]) {
+                case "--to-arabic":
+                    direction = StreamConverter.Direction.ARABIC;
+                    break;
+                case "--to-elbonian":
+                    direction = StreamConverter.Direction.ELBONIAN;
+                    break;
+                case "--skip-invalid":
+                    skipInvalid = true;
+                    break;
+                case "--fail-fast":
+                    skipInvalid = false;
+                    break;
+                case "--parallel":
+                    if(a + 1 == args.length) {
+                        throw new IllegalArgumentException("--parallel needs a number of threads");
+                    }
+                    try {
+                        parallelism = Integer.parseInt(args[++a]);
+                    } catch(NumberFormatException e) {
+                        throw new IllegalArgumentException("--parallel needs a number of threads");
+                    }
+                    if(parallelism < 1) {
+                        throw new IllegalArgumentException("--parallel needs at least 1 thread");
+                    }
+                    break;
+                default:
+                    if(args[a].startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown option " + args[a]);
+                    }
+                    files.add(args[a]);
+            }
+        }
+    }
+
+    private void run() throws IOException, MalformedNumberException, ValueOutOfBoundsException {
+        if(parallelism > 1) {
+            runParallel();
+            return;
+        }
+        WritableByteChannel out = Channels.newChannel(System.out);
+        StreamConverter converter = new StreamConverter(direction, skipInvalid);
+        try {
+            if(files.isEmpty()) {
+                converter.convert(Channels.newChannel(System.in), out);
+            }
+            for(String file : files) {
+                try(FileChannel in = FileChannel.open(Paths.get(file))) {
+                    converter.convert(in, out);
+                }
+            }
+        } finally {
+            rows = converter.getRows();
+            errors = converter.getErrors();
+            bytesRead = converter.getBytesRead();
+            bytesWritten = converter.getBytesWritten();
+            System.out.flush();
+        }
+    }
+
+    private void runParallel() throws IOException, MalformedNumberException, ValueOutOfBoundsException {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        ParallelConverter converter = new ParallelConverter(pool, ParallelConverter.DEFAULT_THRESHOLD);
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.US_ASCII), 1 << 16);
+        // Lines are split on '\n' and classified as bytes, the same as StreamConverter does without --parallel
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int[] starts = new int[CHUNK + 1];
+        int[] results = new int[CHUNK];
+        try {
+            List<String> inputs = files.isEmpty() ? Collections.singletonList(null) : files;
+            for(String file : inputs) {
+                try(InputStream in = file == null ? System.in : new FileInputStream(file)) {
+                    int length = 0;
+                    boolean end = false;
+                    // True while the rest of a line too long for the buffer is being read and dropped
+                    boolean discarding = false;
+                    while(true) {
+                        while(!end && length < buffer.length) {
+                            int read = in.read(buffer, length, buffer.length - length);
+                            if(read < 0) {
+                                end = true;
+                            } else {
+                                length += read;
+                                bytesRead += read;
+                            }
+                        }
+                        if(length == 0) {
+                            break;
+                        }
+                        int count = 0;
+                        int start = 0;
+                        for(int a = 0; a < length && count < CHUNK; a++) {
+                            if(buffer[a] == '\n') {
+                                if(discarding) {
+                                    discarding = false;
+                                } else {
+                                    starts[count++] = start;
+                                }
+                                start = a + 1;
+                            }
+                        }
+                        int next = start;
+                        if(end && count < CHUNK && start < length) {
+                            // The last line does not need a newline
+                            if(!discarding) {
+                                starts[count++] = start;
+                                next = length + 1;
+                            }
+                            start = length;
+                        } else if(count == 0 && start == 0 && length == buffer.length) {
+                            // The buffer holds part of a single line, which is reported once and then dropped
+                            if(!discarding) {
+                                results[0] = ConversionResult.error(ConversionError.INVALID_CHARACTER, length);
+                                write(results, 1, out);
+                                discarding = true;
+                            }
+                            start = length;
+                        }
+                        starts[count] = next;
+                        converter.classify(buffer, starts, count, results);
+                        write(results, count, out);
+                        System.arraycopy(buffer, start, buffer, 0, length - start);
+                        length -= start;
+                    }
+                }
+            }
+        } finally {
+            out.flush();
+            pool.shutdown();
+        }
+    }
+
+    private void write(int[] results, int count, Writer out) throws IOException, MalformedNumberException,
+            ValueOutOfBoundsException {
+        for(int a = 0; a < count; a++) {
+            lineNumber++;
+            int result = results[a];
+            if(ConversionResult.isError(result)) {
+                errors++;
+                if(!skipInvalid) {
+                    ConversionError kind = ConversionResult.errorKind(result);
+                    String message = "Line " + lineNumber + ": " + kind.getMessage();
+                    if(kind == ConversionError.OUT_OF_RANGE) {
+                        throw new ValueOutOfBoundsException(message);
+                    }
+                    throw new MalformedNumberException(message);
+                }
+                continue;
+            }
+            int value = ConversionResult.value(result);
+            String text;
+            if(value == 0) {
+                // A blank line
+                text = "";
+            } else {
+                rows++;
+                boolean elbonian = direction == StreamConverter.Direction.ELBONIAN
+                        || direction == StreamConverter.Direction.SWAP && !ConversionResult.isElbonian(result);
+                text = elbonian ? ElbonianTables.numeral(value) : ElbonianTables.decimal(value);
+            }
+            out.write(text);
+            out.write('\n');
+            bytesWritten += text.length() + 1;
+        }
+    }
+
+    private void report(long nanos) {
+        double seconds = Math.max(nanos, 1) / 1e9;
+        System.err.printf("%d rows, %d errors in %.3f s: %.0f rows/s, %.0f bytes/s read, %.0f bytes/s written%n",
+                rows, errors, seconds, rows / seconds, bytesRead / seconds, bytesWritten / seconds);
+    }
+
+}
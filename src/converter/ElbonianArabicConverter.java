@@ -3,6 +3,7 @@ package converter;
 import converter.exceptions.MalformedNumberException;
 import converter.exceptions.ValueOutOfBoundsException;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 
@@ -12,12 +13,26 @@ import static java.lang.Integer.parseInt;
  * This class implements a converter that takes a string that represents a number in either the
  * Elbonian or Arabic numeral form. This class has methods that will return a value in the chosen form.
  *
+ * The number is parsed and checked once, by the constructor, and only its value is kept, so converters are
+ * immutable and every conversion after that is a field read or a table lookup. Two converters are equal when
+ * they hold the same value, whichever form it was written in, and they are ordered by value, so they can be
+ * shared between threads and used as keys of hash and sorted maps.
+ *
  * @version 3/18/17
  */
-public class ElbonianArabicConverter {
+public final class ElbonianArabicConverter implements Comparable<ElbonianArabicConverter> {
+
+    // The value of the number (Elbonian or Arabic) you would like to convert, found once by the constructor
+    private final int value;
 
-    // A string that holds the number (Elbonian or Arabic) you would like to convert
-    private final String number;
+    // Returned by parseArabic when the characters are not something Integer.parseInt would accept
+    private static final int NOT_ARABIC = Integer.MAX_VALUE;
+
+    static {
+        if("eager".equals(ElbonianTables.MODE)) {
+            ElbonianTables.warmUp();
+        }
+    }
 
     /**
      * Constructor for the ElbonianArabic class that takes a string. The string should contain a valid
@@ -35,24 +50,23 @@ public class ElbonianArabicConverter {
     public ElbonianArabicConverter(String number) throws MalformedNumberException, ValueOutOfBoundsException {
 
         // TODO check to see if the number is valid, then set it equal to the string
-        number = number.trim();
-
-        try {
-            int a = Integer.parseInt(number);
-            checkInRange(number);
-        } catch(NumberFormatException e) {
-            // Not arabic number, check if it is Elbonian
-            checkValidCharacters(number);
-            checkDuplicates(number);
-            checkOrder(number);
-
+        if(ConverterMetrics.ENABLED) {
+            this.value = ConversionResult.valueOrThrow(ConverterMetrics.classify(number), number);
+        } else {
+            this.value = ConversionResult.valueOrThrow(classify(number, 0, number.length()), number);
         }
+    }
 
-        this.number = number;
+    /**
+     * Builds the conversion tables now, so that the first conversion does not pay for them. Call it during
+     * start up, before the first request arrives, or set the converter.tables system property to "eager" to
+     * build them as soon as this class is loaded.
+     */
+    public static void warmUp() {
+        ElbonianTables.warmUp();
     }
 
-    private void checkInRange(String number) throws ValueOutOfBoundsException {
-        int n = Integer.parseInt(number);
+    private static void checkInRange(int n) throws ValueOutOfBoundsException {
         if(n > 0 && n <= 2999) {}
         else {
             throw new ValueOutOfBoundsException("Number must be between 0 and 2999");
@@ -60,278 +74,377 @@ public class ElbonianArabicConverter {
     }
 
     public void checkValidCharacters(String number) throws MalformedNumberException {
-        for(int i = 0; i < number.length(); i++) {
-            char c = number.charAt(i);
-          if(c != 'M' && c != 'C' && c != 'X' && c != 'I' && c != 'D' && c != 'E' && c != 'Y' && c != 'Z' && c != 'J' && c != 'K') {
-              throw new MalformedNumberException("Number should only contain valid characters");
-          }
-        }
+        throwIfMalformed(ElbonianValidator.check(number, 0, number.length(), ElbonianValidator.CHARACTER_RULES),
+                number);
     }
 
     public void checkDuplicates(String number) throws MalformedNumberException {
-        int m = 0;
-        int c = 0;
-        int x = 0;
-        int i = 0;
-        int d = 0;
-        int e = 0;
-        int y = 0;
-        int z = 0;
-        int j = 0;
-        int k = 0;
-        for(int a = 0; a < number.length(); a++) {
-            char ch = number.charAt(a);
-            switch(ch) {
-                case 'M':
-                    m++;
-                    break;
-                case 'C':
-                    c++;
-                    break;
-                case 'X':
-                    x++;
-                    break;
-                case 'I':
-                    i++;
-                    break;
-                case 'D':
-                    d++;
-                    break;
-                case 'E':
-                    e++;
-                    break;
-                case 'Y':
-                    y++;
-                    break;
-                case 'Z':
-                    z++;
-                    break;
-                case 'J':
-                    j++;
-                    break;
-                case 'K':
-                    k++;
-            }
-        }
+        throwIfMalformed(ElbonianValidator.check(number, 0, number.length(), ElbonianValidator.DUPLICATE_RULES),
+                number);
+    }
 
-        if(m > 2 || c > 2 || x > 2 || i > 2) {
-            throw new MalformedNumberException("M, C, X, and I can only appear a maximum of 2 times in a number");
+    public void checkOrder(String number) throws MalformedNumberException {
+        throwIfMalformed(ElbonianValidator.check(number, 0, number.length(), ElbonianValidator.ORDER_RULES), number);
+    }
+
+    private static void throwIfMalformed(int result, String number) throws MalformedNumberException {
+        if(ConversionResult.isError(result)) {
+            throw new MalformedNumberException(ConversionResult.message(result, number));
         }
+    }
 
-        if(d > 1 || e > 1 || y > 1 || z > 1 || j > 1 || k > 1) {
-            throw new MalformedNumberException("D, E, Y, Z, J, and K can only appear once in a number");
+    /**
+     * Converts the number to an Arabic numeral or returns the current value as an int if it is already
+     * in the Arabic form.
+     *
+     * @return An arabic value
+     */
+    public int toArabic() {
+        // TODO Fill in the method's body
+        if(ConverterMetrics.ENABLED) {
+            ConverterMetrics.conversion();
         }
+        return value;
+    }
 
-        if(d == 1 && e == 1 && c != 0) {
-            throw new MalformedNumberException("C cannot appear if D and E are in the number");
+    /**
+     * Converts the number to an Elbonian numeral or returns the current value if it is already in the Elbonian form.
+     * The String returned is one shared instance per value, not a copy of the input.
+     *
+     * @return An Elbonian value
+     */
+    public String toElbonian() {
+        // TODO Fill in the method's body
+        if(ConverterMetrics.ENABLED) {
+            ConverterMetrics.conversion();
         }
+        return ElbonianTables.numeral(value);
+    }
 
-        if(y == 1 && z == 1 && x != 0) {
-            throw new MalformedNumberException("X cannot appear if Y and Z are in the number");
+    /**
+     * Converts the number to an Arabic numeral written in decimal. Like toElbonian, the String returned is
+     * shared by every converter holding the same value, so keeping millions of results does not keep
+     * millions of copies.
+     *
+     * @return An Arabic value as a String
+     */
+    public String toArabicString() {
+        if(ConverterMetrics.ENABLED) {
+            ConverterMetrics.conversion();
         }
+        return ElbonianTables.decimal(value);
+    }
 
-        if(j == 1 && k == 1 && i != 0) {
-            throw new MalformedNumberException("I cannot appear if J and K are in the number");
+    @Override
+    public int compareTo(ElbonianArabicConverter other) {
+        return Integer.compare(value, other.value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ElbonianArabicConverter && ((ElbonianArabicConverter) other).value == value;
+    }
+
+    @Override
+    public int hashCode() {
+        return value;
+    }
+
+    /**
+     * Works out whether the characters between two indexes hold an Arabic number or an Elbonian numeral and
+     * checks them the same way the constructor does, but reports the outcome as a result code instead of
+     * throwing. Leading and trailing spaces inside the range are skipped. Use the ConversionResult methods
+     * to read the result code, or ConversionResult.valueOrThrow to get the constructor's Exceptions back.
+     *
+     * @param number The characters to read
+     * @param from The index of the first character to read
+     * @param to The index after the last character to read
+     * @return A result code holding either the value and form of the number, or the reason it is invalid and
+     * the index of the offending character
+     */
+    public static int classify(CharSequence number, int from, int to) {
+        while(from < to && number.charAt(from) <= ' ') {
+            from++;
+        }
+        while(to > from && number.charAt(to - 1) <= ' ') {
+            to--;
         }
+        int result = parseArabic(number, from, to);
+        if(result != NOT_ARABIC) {
+            return result;
+        }
+        return ElbonianValidator.validate(number, from, to);
     }
 
-    public void checkOrder(String number) throws MalformedNumberException {
-        int m = 0;
-        int c = 0;
-        int x = 0;
-        int i = 0;
-        int d = 0;
-        int e = 0;
-        int y = 0;
-        int z = 0;
-        int j = 0;
-        int k = 0;
-        for(int a = 0; a < number.length(); a++) {
-            char ch = number.charAt(a);
-            switch(ch) {
-                case 'M':
-                    if(c != 0 || x != 0 || i != 0 || d != 0 || e != 0 || y != 0 || z != 0 || j != 0 || k != 0){
-                        throw new MalformedNumberException("Numbers not in proper order");
-                    }
-                    m++;
-                    break;
-                case 'C':
-                    if(x != 0 || i != 0 || y != 0 || z != 0 || j != 0 || k != 0){
-                        throw new MalformedNumberException("Numbers not in proper order");
-                    }
-                    c++;
-                    break;
-                case 'X':
-                    if(i != 0 || j != 0 || k != 0){
-                        throw new MalformedNumberException("Numbers not in proper order");
-                    }
-
-                    x++;
-                    break;
-                case 'I':
-                    i++;
-                    break;
-                case 'D':
-                    if(c != 0 || x != 0 || i != 0 || y != 0 || z != 0 || j != 0 || k != 0){
-                        throw new MalformedNumberException("Numbers not in proper order");
-                    }
-                    d++;
-                    break;
-                case 'E':
-                    if(c != 0 || x != 0 || i != 0 || d != 0 || y != 0 || z != 0 || j != 0 || k != 0){
-                        throw new MalformedNumberException("Numbers not in proper order");
-                    }
-
-                    e++;
-                    break;
-                case 'Y':
-                    if(x != 0 || i != 0 || j != 0 || k != 0){
-                        throw new MalformedNumberException("Numbers not in proper order");
-                    }
-                    y++;
-                    break;
-                case 'Z':
-                    if(x != 0 || i != 0 || y != 0 || j != 0 || k != 0){
-                        throw new MalformedNumberException("Numbers not in proper order");
-                    }
-                    z++;
-                    break;
-                case 'J':
-                    if(i != 0){
-                        throw new MalformedNumberException("Numbers not in proper order");
-                    }
-                    j++;
-                    break;
-                case 'K':
-                    if(i != 0 || j != 0 ){
-                        throw new MalformedNumberException("Numbers not in proper order");
-                    }
-                    k++;
+    // Only numbers of at most four digits, after any leading zeros, can be in range, so the digits are added
+    // up in an int until the value passes 9999. Longer numbers are out of range, or malformed if they are
+    // too big for Integer.parseInt, and only those carry on in a long to tell which.
+    private static int parseArabic(CharSequence number, int from, int to) {
+        int a = from;
+        boolean negative = false;
+        if(a < to && (number.charAt(a) == '-' || number.charAt(a) == '+')) {
+            negative = number.charAt(a) == '-';
+            a++;
+        }
+        if(a == to) {
+            return NOT_ARABIC;
+        }
+        int n = 0;
+        for(; a < to && n <= 9999; a++) {
+            int digit = digit(number.charAt(a));
+            if(digit < 0) {
+                return NOT_ARABIC;
             }
+            n = n * 10 + digit;
         }
+        long large = n;
+        for(; a < to; a++) {
+            int digit = digit(number.charAt(a));
+            if(digit < 0) {
+                return NOT_ARABIC;
+            }
+            large = large * 10 + digit;
+            if(large > (long) Integer.MAX_VALUE + 1) {
+                return NOT_ARABIC;
+            }
+        }
+        return arabicResult(large, negative, from);
     }
 
+    // Like Character.digit(ch, 10), which Integer.parseInt uses, but without the lookup for ASCII characters
+    private static int digit(char ch) {
+        if(ch >= '0' && ch <= '9') {
+            return ch - '0';
+        }
+        return ch < 128 ? -1 : Character.digit(ch, 10);
+    }
 
+    /**
+     * Classifies the ASCII bytes between two indexes of an array the same way classify does for
+     * characters, without decoding them. Bytes above 127 are never valid.
+     *
+     * @param number The bytes to read
+     * @param from The index of the first byte to read
+     * @param to The index after the last byte to read
+     * @return A result code holding either the value and form of the number, or the reason it is invalid and
+     * the index of the offending byte
+     */
+    public static int classify(byte[] number, int from, int to) {
+        while(from < to && (number[from] & 0xFF) <= ' ') {
+            from++;
+        }
+        while(to > from && (number[to - 1] & 0xFF) <= ' ') {
+            to--;
+        }
+        int result = NOT_ARABIC;
+        if(from < to && (number[from] & 0xFF) < 'A') {
+            result = parseArabic(number, from, to);
+        }
+        if(result != NOT_ARABIC) {
+            return result;
+        }
+        return ElbonianValidator.validate(number, from, to);
+    }
 
     /**
-     * Converts the number to an Arabic numeral or returns the current value as an int if it is already
-     * in the Arabic form.
+     * Classifies the ASCII bytes between two absolute indexes of a heap or direct buffer the same way
+     * classify does for characters, without decoding them. The buffer's position and limit are not used or
+     * changed. Bytes above 127 are never valid.
      *
-     * @return An arabic value
+     * @param number The buffer to read
+     * @param from The index of the first byte to read
+     * @param to The index after the last byte to read
+     * @return A result code holding either the value and form of the number, or the reason it is invalid and
+     * the index of the offending byte
      */
-    public int toArabic() {
-        // TODO Fill in the method's body
-        int result = 0;
-        try {
-          return Integer.parseInt(number);
-        } catch(NumberFormatException e) {
-            for(int a = 0; a < number.length(); a++) {
-                char ch = number.charAt(a);
-                switch(ch) {
-                    case 'M':
-                        result += 1000;
-                        break;
-                    case 'C':
-                        result += 100;
-                        break;
-                    case 'X':
-                        result += 10;
-                        break;
-                    case 'I':
-                        result += 1;
-                        break;
-                    case 'D':
-                        result += 300;
-                        break;
-                    case 'E':
-                        result += 600;
-                        break;
-                    case 'Y':
-                        result += 30;
-                        break;
-                    case 'Z':
-                        result += 60;
-                        break;
-                    case 'J':
-                        result += 3;
-                        break;
-                    case 'K':
-                        result += 6;
-                }
+    public static int classify(ByteBuffer number, int from, int to) {
+        if(number.hasArray()) {
+            int offset = number.arrayOffset();
+            int result = classify(number.array(), from + offset, to + offset);
+            return ConversionResult.isError(result)
+                    ? ConversionResult.error(ConversionResult.errorKind(result), ConversionResult.offset(result) - offset)
+                    : result;
+        }
+        while(from < to && (number.get(from) & 0xFF) <= ' ') {
+            from++;
+        }
+        while(to > from && (number.get(to - 1) & 0xFF) <= ' ') {
+            to--;
+        }
+        int result = NOT_ARABIC;
+        if(from < to && (number.get(from) & 0xFF) < 'A') {
+            result = parseArabic(number, from, to);
+        }
+        if(result != NOT_ARABIC) {
+            return result;
+        }
+        return ElbonianValidator.validate(number, from, to);
+    }
+
+    // Bytes can only hold ASCII digits, so unlike Integer.parseInt only '0' to '9' are accepted. Digits are
+    // added up the same way as for characters.
+    private static int parseArabic(byte[] number, int from, int to) {
+        int a = from;
+        boolean negative = false;
+        if(number[a] == '-' || number[a] == '+') {
+            negative = number[a] == '-';
+            a++;
+        }
+        if(a == to) {
+            return NOT_ARABIC;
+        }
+        int n = 0;
+        for(; a < to && n <= 9999; a++) {
+            int digit = number[a] - '0';
+            if(digit < 0 || digit > 9) {
+                return NOT_ARABIC;
+            }
+            n = n * 10 + digit;
+        }
+        long large = n;
+        for(; a < to; a++) {
+            int digit = number[a] - '0';
+            if(digit < 0 || digit > 9) {
+                return NOT_ARABIC;
+            }
+            large = large * 10 + digit;
+            if(large > (long) Integer.MAX_VALUE + 1) {
+                return NOT_ARABIC;
             }
         }
-        return result;
+        return arabicResult(large, negative, from);
+    }
+
+    private static int parseArabic(ByteBuffer number, int from, int to) {
+        int a = from;
+        boolean negative = false;
+        if(number.get(a) == '-' || number.get(a) == '+') {
+            negative = number.get(a) == '-';
+            a++;
+        }
+        if(a == to) {
+            return NOT_ARABIC;
+        }
+        int n = 0;
+        for(; a < to && n <= 9999; a++) {
+            int digit = number.get(a) - '0';
+            if(digit < 0 || digit > 9) {
+                return NOT_ARABIC;
+            }
+            n = n * 10 + digit;
+        }
+        long large = n;
+        for(; a < to; a++) {
+            int digit = number.get(a) - '0';
+            if(digit < 0 || digit > 9) {
+                return NOT_ARABIC;
+            }
+            large = large * 10 + digit;
+            if(large > (long) Integer.MAX_VALUE + 1) {
+                return NOT_ARABIC;
+            }
+        }
+        return arabicResult(large, negative, from);
+    }
+
+    private static int arabicResult(long n, boolean negative, int from) {
+        if(!negative && n > Integer.MAX_VALUE) {
+            return NOT_ARABIC;
+        }
+        if(negative || n < 1 || n > 2999) {
+            return ConversionResult.error(ConversionError.OUT_OF_RANGE, from);
+        }
+        return ConversionResult.success((int) n, false);
     }
 
     /**
-     * Converts the number to an Elbonian numeral or returns the current value if it is already in the Elbonian form.
+     * Reads the Elbonian numeral held between two indexes of a character sequence without creating a
+     * converter, a trimmed copy or a substring. Leading and trailing spaces inside the range are skipped the
+     * same way the constructor trims them.
      *
-     * @return An Elbonian value
+     * @param number The characters to read
+     * @param from The index of the first character to read
+     * @param to The index after the last character to read
+     * @return The Arabic value of the numeral, 0 if the range is blank, or -1 if it is not a valid Elbonian
+     * numeral
      */
-    public String toElbonian() {
-        // TODO Fill in the method's body
-        String result = "";
-        try {
-            checkValidCharacters(number);
-            checkDuplicates(number);
-            checkOrder(number);
-            return number;
-        } catch(MalformedNumberException e) {
-            int n = Integer.parseInt(number);
-            while(n > 0) {
-                if(n / 1000 > 0) {
-                    result += "M";
-                    n -= 1000;
-                }
-
-                else if(n / 600 > 0) {
-                    result += "E";
-                    n -= 600;
-                }
-
-                else if(n / 300 > 0) {
-                    result += "D";
-                    n -= 300;
-                }
-
-                else if(n / 100 > 0) {
-                    result += "C";
-                    n -= 100;
-                }
-
-                else if(n / 60 > 0) {
-                    result += "Z";
-                    n -= 60;
-                }
-
-                else if(n / 30 > 0) {
-                    result += "Y";
-                    n -= 30;
-                }
-
-                else if(n / 10 > 0) {
-                    result += "X";
-                    n -= 10;
-                }
-
-                else if(n / 6 > 0) {
-                    result += "K";
-                    n -= 6;
-                }
-
-                else if(n / 3 > 0) {
-                    result += "J";
-                    n -= 3;
-                }
-
-                else {
-                    result += "I";
-                    n--;
-                }
-            }
+    public static int parseElbonian(CharSequence number, int from, int to) {
+        while(from < to && number.charAt(from) <= ' ') {
+            from++;
+        }
+        while(to > from && number.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        return ElbonianTables.value(number, from, to);
+    }
+
+    /**
+     * Writes the Elbonian numeral for a value into a character array.
+     *
+     * @param value The value to write
+     * @param dst The array to write the numeral into
+     * @param off The index in dst of the first character of the numeral
+     * @return The number of characters written
+     * @throws ValueOutOfBoundsException Thrown if the value cannot be represented in the Elbonian number
+     * system.
+     */
+    public static int formatElbonian(int value, char[] dst, int off) throws ValueOutOfBoundsException {
+        checkInRange(value);
+        String numeral = ElbonianTables.numeral(value);
+        numeral.getChars(0, numeral.length(), dst, off);
+        return numeral.length();
+    }
+
+    /**
+     * Appends the Elbonian numeral for a value to a StringBuilder.
+     *
+     * @param value The value to append
+     * @param builder The StringBuilder to append to
+     * @return The builder that was passed in
+     * @throws ValueOutOfBoundsException Thrown if the value cannot be represented in the Elbonian number
+     * system.
+     */
+    public static StringBuilder appendElbonian(int value, StringBuilder builder) throws ValueOutOfBoundsException {
+        checkInRange(value);
+        return builder.append(ElbonianTables.numeral(value));
+    }
+
+    /**
+     * Writes the Elbonian numeral for a value into a byte array as ASCII.
+     *
+     * @param value The value to write
+     * @param dst The array to write the numeral into
+     * @param off The index in dst of the first byte of the numeral
+     * @return The number of bytes written
+     * @throws ValueOutOfBoundsException Thrown if the value cannot be represented in the Elbonian number
+     * system.
+     */
+    public static int formatElbonian(int value, byte[] dst, int off) throws ValueOutOfBoundsException {
+        checkInRange(value);
+        String numeral = ElbonianTables.numeral(value);
+        for(int a = 0; a < numeral.length(); a++) {
+            dst[off + a] = (byte) numeral.charAt(a);
         }
+        return numeral.length();
+    }
 
-        return result;
+    /**
+     * Writes the Elbonian numeral for a value as ASCII at the position of a heap or direct buffer, and moves
+     * the position past it.
+     *
+     * @param value The value to write
+     * @param dst The buffer to write the numeral into
+     * @return The number of bytes written
+     * @throws ValueOutOfBoundsException Thrown if the value cannot be represented in the Elbonian number
+     * system.
+     */
+    public static int formatElbonian(int value, ByteBuffer dst) throws ValueOutOfBoundsException {
+        checkInRange(value);
+        String numeral = ElbonianTables.numeral(value);
+        for(int a = 0; a < numeral.length(); a++) {
+            dst.put((byte) numeral.charAt(a));
+        }
+        return numeral.length();
     }
 
 }
@@ -0,0 +1,314 @@
+package converter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * A compact binary format for columns of Elbonian values. Every value from 1 to 2999 fits in 12 bits, so
+ * values are packed two to every three bytes, with 0 standing for a missing or invalid value.
+ *
+ * A stream starts with the four bytes "ELB1" and is followed by blocks. Each block is a four byte big
+ * endian count of values followed by the packed values; every block holds BLOCK_SIZE values except the
+ * last, which may hold fewer. Because full blocks all have the same size, the RandomAccessReader can find
+ * any value without an index.
+ *
+ * @version 10/18/26
+ */
+public final class ElbonianCodec {
+
+    /**
+     * The number of values in every block but the last.
+     */
+    public static final int BLOCK_SIZE = 4096;
+
+    // The bytes at the start of every stream
+    private static final byte[] MAGIC = {'E', 'L', 'B', '1'};
+
+    // The size in bytes of a full block, including its count
+    private static final int BLOCK_BYTES = 4 + packedLength(BLOCK_SIZE);
+
+    private ElbonianCodec() {
+    }
+
+    private static int packedLength(int count) {
+        return (count * 12 + 7) / 8;
+    }
+
+    // Reads a big endian count whatever the byte order of the buffer
+    private static int count(ByteBuffer buffer, int offset) {
+        return (buffer.get(offset) & 0xFF) << 24 | (buffer.get(offset + 1) & 0xFF) << 16
+                | (buffer.get(offset + 2) & 0xFF) << 8 | buffer.get(offset + 3) & 0xFF;
+    }
+
+    private static int unpack(ByteBuffer buffer, int payload, int index) {
+        int offset = payload + index / 2 * 3;
+        if((index & 1) == 0) {
+            return (buffer.get(offset) & 0xFF) << 4 | (buffer.get(offset + 1) & 0xFF) >>> 4;
+        }
+        return (buffer.get(offset + 1) & 0x0F) << 8 | buffer.get(offset + 2) & 0xFF;
+    }
+
+    /**
+     * Writes values to an OutputStream in the packed format. A block is written each time BLOCK_SIZE values
+     * have been collected, and the last block when the writer is closed.
+     */
+    public static final class Writer implements AutoCloseable {
+
+        private final OutputStream out;
+        private final byte[] block = new byte[BLOCK_BYTES];
+        private int count;
+
+        /**
+         * Creates a writer and writes the start of the stream.
+         *
+         * @param out The stream to write to
+         * @throws IOException Thrown if writing fails.
+         */
+        public Writer(OutputStream out) throws IOException {
+            this.out = out;
+            out.write(MAGIC);
+        }
+
+        /**
+         * Writes a value; a value that cannot be represented in the Elbonian number system is written as
+         * missing.
+         *
+         * @param value The value to write
+         * @throws IOException Thrown if writing fails.
+         */
+        public void write(int value) throws IOException {
+            int code = value >= ElbonianTables.MIN_VALUE && value <= ElbonianTables.MAX_VALUE ? value : 0;
+            int offset = 4 + count / 2 * 3;
+            if((count & 1) == 0) {
+                block[offset] = (byte) (code >>> 4);
+                block[offset + 1] = (byte) (code << 4);
+            } else {
+                block[offset + 1] |= (byte) (code >>> 8);
+                block[offset + 2] = (byte) code;
+            }
+            if(++count == BLOCK_SIZE) {
+                flushBlock();
+            }
+        }
+
+        /**
+         * Writes the value of an Arabic number or Elbonian numeral; an input that cannot be converted is
+         * written as missing.
+         *
+         * @param number The number to write, which may have leading and trailing spaces
+         * @throws IOException Thrown if writing fails.
+         */
+        public void write(CharSequence number) throws IOException {
+            int result = ElbonianArabicConverter.classify(number, 0, number.length());
+            write(ConversionResult.isError(result) ? 0 : ConversionResult.value(result));
+        }
+
+        /**
+         * Writes a missing value.
+         *
+         * @throws IOException Thrown if writing fails.
+         */
+        public void writeMissing() throws IOException {
+            write(0);
+        }
+
+        private void flushBlock() throws IOException {
+            block[0] = (byte) (count >>> 24);
+            block[1] = (byte) (count >>> 16);
+            block[2] = (byte) (count >>> 8);
+            block[3] = (byte) count;
+            out.write(block, 0, 4 + packedLength(count));
+            count = 0;
+        }
+
+        /**
+         * Writes the last block and closes the stream.
+         *
+         * @throws IOException Thrown if writing fails.
+         */
+        @Override
+        public void close() throws IOException {
+            if(count > 0) {
+                flushBlock();
+            }
+            out.close();
+        }
+    }
+
+    /**
+     * Reads values from an InputStream in the packed format one after another, a block at a time.
+     */
+    public static final class Reader {
+
+        private final DataInputStream in;
+        private final ByteBuffer block = ByteBuffer.allocate(packedLength(BLOCK_SIZE));
+        private int count;
+        private int next;
+
+        /**
+         * Creates a reader and checks the start of the stream.
+         *
+         * @param in The stream to read from
+         * @throws IOException Thrown if reading fails or the stream is not in the packed format.
+         */
+        public Reader(InputStream in) throws IOException {
+            this.in = new DataInputStream(in);
+            byte[] magic = new byte[MAGIC.length];
+            this.in.readFully(magic);
+            for(int a = 0; a < MAGIC.length; a++) {
+                if(magic[a] != MAGIC[a]) {
+                    throw new IOException("Not a packed Elbonian stream");
+                }
+            }
+        }
+
+        /**
+         * @return True if there is another value to read
+         * @throws IOException Thrown if reading fails or a block is damaged.
+         */
+        public boolean hasNext() throws IOException {
+            if(next < count) {
+                return true;
+            }
+            // The stream may only end between blocks
+            int first = in.read();
+            if(first < 0) {
+                return false;
+            }
+            int size;
+            try {
+                size = first << 24 | in.readUnsignedByte() << 16 | in.readUnsignedShort();
+            } catch(EOFException e) {
+                throw new IOException("Truncated block", e);
+            }
+            if(size < 1 || size > BLOCK_SIZE) {
+                throw new IOException("Damaged block of " + size + " values");
+            }
+            in.readFully(block.array(), 0, packedLength(size));
+            count = size;
+            next = 0;
+            return true;
+        }
+
+        /**
+         * @return The next value, or 0 if it is missing
+         * @throws IOException Thrown if reading fails, the value is damaged or there are no more values.
+         */
+        public int next() throws IOException {
+            if(!hasNext()) {
+                throw new EOFException("No more values");
+            }
+            int value = unpack(block, 0, next++);
+            if(value > ElbonianTables.MAX_VALUE) {
+                throw new IOException("Damaged value " + value);
+            }
+            return value;
+        }
+
+        /**
+         * @return The shared Elbonian numeral for the next value, or null if it is missing
+         * @throws IOException Thrown if reading fails, the value is damaged or there are no more values.
+         */
+        public String nextElbonian() throws IOException {
+            int value = next();
+            return value == 0 ? null : ElbonianTables.numeral(value);
+        }
+    }
+
+    /**
+     * Reads any value of a packed stream held in a buffer, such as a memory mapped file, by its index.
+     */
+    public static final class RandomAccessReader {
+
+        private final ByteBuffer buffer;
+        private final int start;
+        private final int size;
+
+        /**
+         * Creates a reader over the bytes between a buffer's position and limit.
+         *
+         * @param buffer The buffer holding the whole stream
+         * @throws IOException Thrown if the buffer does not hold a packed stream or a block count is damaged.
+         */
+        public RandomAccessReader(ByteBuffer buffer) throws IOException {
+            this.buffer = buffer;
+            this.start = buffer.position() + MAGIC.length;
+            int length = buffer.limit() - start;
+            for(int a = 0; a < MAGIC.length; a++) {
+                if(length < 0 || buffer.get(buffer.position() + a) != MAGIC[a]) {
+                    throw new IOException("Not a packed Elbonian stream");
+                }
+            }
+            int blocks = length / BLOCK_BYTES;
+            int rest = length % BLOCK_BYTES;
+            for(int block = 0; block < blocks; block++) {
+                if(count(buffer, start + block * BLOCK_BYTES) != BLOCK_SIZE) {
+                    throw new IOException("Damaged block " + block);
+                }
+            }
+            int lastCount = rest == 0 ? 0 : rest < 4 ? -1 : count(buffer, start + blocks * BLOCK_BYTES);
+            if(rest != 0 && (lastCount < 1 || lastCount >= BLOCK_SIZE || rest != 4 + packedLength(lastCount))) {
+                throw new IOException("Damaged last block");
+            }
+            this.size = blocks * BLOCK_SIZE + lastCount;
+        }
+
+        /**
+         * @return The number of values in the stream
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Damaged values, which only damaged or foreign data can hold, are read as missing, so a bad value
+         * does not stop the rest of the column from being read.
+         *
+         * @param index The index of a value, from 0 to size() - 1
+         * @return The value, or 0 if it is missing or damaged
+         */
+        public int get(int index) {
+            if(index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " of " + size);
+            }
+            int payload = start + index / BLOCK_SIZE * BLOCK_BYTES + 4;
+            int value = unpack(buffer, payload, index % BLOCK_SIZE);
+            return value > ElbonianTables.MAX_VALUE ? 0 : value;
+        }
+
+        /**
+         * @param index The index of a value, from 0 to size() - 1
+         * @return The shared Elbonian numeral for the value, or null if it is missing or damaged
+         */
+        public String getElbonian(int index) {
+            int value = get(index);
+            return value == 0 ? null : ElbonianTables.numeral(value);
+        }
+    }
+
+    /**
+     * Packs a column of values into a byte array.
+     *
+     * @param values The values to pack; values out of bounds are packed as missing
+     * @return The packed stream
+     */
+    public static byte[] encode(int[] values) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(MAGIC.length + values.length / BLOCK_SIZE * 4
+                + packedLength(values.length) + 4);
+        try(Writer writer = new Writer(bytes)) {
+            for(int value : values) {
+                writer.write(value);
+            }
+        } catch(IOException e) {
+            // A ByteArrayOutputStream never fails
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+}
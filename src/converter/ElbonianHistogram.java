@@ -0,0 +1,167 @@
+package converter;
+
+import java.util.stream.Collector;
+
+/**
+ * Counts how often each value appears in a column of Arabic numbers or Elbonian numerals, without keeping
+ * the values themselves. Inputs are checked with the same rules as the ElbonianArabicConverter constructor;
+ * an input that fails is counted by the reason it failed instead of throwing.
+ *
+ * A histogram is not thread safe. For parallel runs give each thread its own histogram and merge them, or
+ * use collector() with a parallel stream.
+ *
+ * @version 10/18/26
+ */
+public final class ElbonianHistogram {
+
+    // counts[n] is the number of valid inputs with value n
+    private final long[] counts = new long[ElbonianTables.MAX_VALUE + 1];
+    private final long[] failures = new long[ConversionError.values().length];
+    private long total;
+
+    /**
+     * @return A collector that adds every input of a stream to a histogram
+     */
+    public static Collector<CharSequence, ?, ElbonianHistogram> collector() {
+        return Collector.of(ElbonianHistogram::new, ElbonianHistogram::add, ElbonianHistogram::merge,
+                Collector.Characteristics.UNORDERED, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Adds an input. A blank input is neither a value nor a failure and is ignored.
+     *
+     * @param number An Arabic number or Elbonian numeral, which may have leading and trailing spaces
+     */
+    public void add(CharSequence number) {
+        record(ElbonianArabicConverter.classify(number, 0, number.length()));
+    }
+
+    /**
+     * Adds an input held as ASCII bytes. A blank input is neither a value nor a failure and is ignored.
+     *
+     * @param number The bytes to read
+     * @param from The index of the first byte of the input
+     * @param to The index after the last byte of the input
+     */
+    public void add(byte[] number, int from, int to) {
+        record(ElbonianArabicConverter.classify(number, from, to));
+    }
+
+    /**
+     * Adds every input of a column.
+     *
+     * @param numbers The inputs to add
+     */
+    public void addAll(CharSequence[] numbers) {
+        for(CharSequence number : numbers) {
+            add(number);
+        }
+    }
+
+    private void record(int result) {
+        if(ConversionResult.isError(result)) {
+            failures[ConversionResult.errorKind(result).ordinal()]++;
+        } else if(ConversionResult.value(result) != 0) {
+            counts[ConversionResult.value(result)]++;
+            total++;
+        }
+    }
+
+    /**
+     * Adds the counts of another histogram to this one.
+     *
+     * @param other The histogram to add
+     * @return This histogram
+     */
+    public ElbonianHistogram merge(ElbonianHistogram other) {
+        for(int value = ElbonianTables.MIN_VALUE; value <= ElbonianTables.MAX_VALUE; value++) {
+            counts[value] += other.counts[value];
+        }
+        for(int a = 0; a < failures.length; a++) {
+            failures[a] += other.failures[a];
+        }
+        total += other.total;
+        return this;
+    }
+
+    /**
+     * @param value A value from 1 to 2999
+     * @return The number of valid inputs with the value
+     */
+    public long count(int value) {
+        return value < ElbonianTables.MIN_VALUE || value > ElbonianTables.MAX_VALUE ? 0 : counts[value];
+    }
+
+    /**
+     * @return The number of valid inputs
+     */
+    public long count() {
+        return total;
+    }
+
+    /**
+     * @param error A reason an input can fail
+     * @return The number of inputs that failed for that reason
+     */
+    public long failures(ConversionError error) {
+        return failures[error.ordinal()];
+    }
+
+    /**
+     * @return The sum of all valid inputs
+     */
+    public long sum() {
+        long sum = 0;
+        for(int value = ElbonianTables.MIN_VALUE; value <= ElbonianTables.MAX_VALUE; value++) {
+            sum += counts[value] * value;
+        }
+        return sum;
+    }
+
+    /**
+     * @return The smallest valid input, or 0 if there are none
+     */
+    public int min() {
+        for(int value = ElbonianTables.MIN_VALUE; value <= ElbonianTables.MAX_VALUE; value++) {
+            if(counts[value] != 0) {
+                return value;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @return The largest valid input, or 0 if there are none
+     */
+    public int max() {
+        for(int value = ElbonianTables.MAX_VALUE; value >= ElbonianTables.MIN_VALUE; value--) {
+            if(counts[value] != 0) {
+                return value;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the smallest value that at least the given fraction of the valid inputs are less than or
+     * equal to, so percentile(0.5) is the median and percentile(1) the maximum.
+     *
+     * @param fraction A fraction from 0 to 1
+     * @return The percentile, or 0 if there are no valid inputs
+     */
+    public int percentile(double fraction) {
+        if(fraction < 0 || fraction > 1) {
+            throw new IllegalArgumentException("Fraction must be between 0 and 1");
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * fraction));
+        long seen = 0;
+        for(int value = ElbonianTables.MIN_VALUE; value <= ElbonianTables.MAX_VALUE; value++) {
+            seen += counts[value];
+            if(seen >= rank) {
+                return value;
+            }
+        }
+        return 0;
+    }
+
+}
@@ -0,0 +1,204 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.io.InvalidObjectException;
+import java.util.Comparator;
+
+/**
+ * An immutable number that can be written as an Elbonian numeral, from 1 to 2999. The value is held as a
+ * short, so arithmetic and comparisons never convert to text, and the numeral is only looked up when it is
+ * asked for. There is exactly one instance per value, so instances can be compared with == as well as
+ * equals.
+ *
+ * @version 10/18/26
+ */
+public final class ElbonianNumber extends Number implements Comparable<ElbonianNumber> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The smallest ElbonianNumber, I.
+     */
+    public static final ElbonianNumber MIN = new ElbonianNumber(ElbonianTables.MIN_VALUE);
+
+    /**
+     * The largest ElbonianNumber, MMEDZYKJ.
+     */
+    public static final ElbonianNumber MAX = new ElbonianNumber(ElbonianTables.MAX_VALUE);
+
+    /**
+     * Orders Elbonian numerals by value without converting them. Valid numerals list their symbols from the
+     * largest value to the smallest, so the first symbol where two numerals differ decides the order, and a
+     * numeral that runs out of symbols first is the smaller one. Leading and trailing spaces are not allowed.
+     * Throws IllegalArgumentException if either sequence holds a character that is not an Elbonian symbol.
+     */
+    public static final Comparator<CharSequence> NUMERAL_ORDER = (first, second) -> {
+        int length = Math.min(first.length(), second.length());
+        for(int a = 0; a < length; a++) {
+            int s1 = symbol(first.charAt(a));
+            int s2 = symbol(second.charAt(a));
+            if(s1 != s2) {
+                // A smaller index in ElbonianTables.SYMBOLS is a larger value
+                return s1 < s2 ? 1 : -1;
+            }
+        }
+        for(int a = length; a < first.length(); a++) {
+            symbol(first.charAt(a));
+        }
+        for(int a = length; a < second.length(); a++) {
+            symbol(second.charAt(a));
+        }
+        return Integer.compare(first.length(), second.length());
+    };
+
+    // Every ElbonianNumber, indexed by value
+    private static final ElbonianNumber[] VALUES = new ElbonianNumber[ElbonianTables.MAX_VALUE + 1];
+
+    static {
+        VALUES[ElbonianTables.MIN_VALUE] = MIN;
+        VALUES[ElbonianTables.MAX_VALUE] = MAX;
+        for(int value = ElbonianTables.MIN_VALUE + 1; value < ElbonianTables.MAX_VALUE; value++) {
+            VALUES[value] = new ElbonianNumber(value);
+        }
+    }
+
+    private final short value;
+
+    private ElbonianNumber(int value) {
+        this.value = (short) value;
+    }
+
+    private static int symbol(char ch) {
+        int s = ch < 128 ? ElbonianTables.SYMBOL_INDEX[ch] : -1;
+        if(s < 0) {
+            throw new IllegalArgumentException("Not an Elbonian symbol: " + ch);
+        }
+        return s;
+    }
+
+    /**
+     * Returns the ElbonianNumber for a value.
+     *
+     * @param value The value, from 1 to 2999
+     * @return The ElbonianNumber for the value
+     * @throws ValueOutOfBoundsException Thrown if the value cannot be represented in the Elbonian number
+     * system.
+     */
+    public static ElbonianNumber valueOf(int value) throws ValueOutOfBoundsException {
+        if(value < ElbonianTables.MIN_VALUE || value > ElbonianTables.MAX_VALUE) {
+            throw new ValueOutOfBoundsException(ConversionError.OUT_OF_RANGE.getMessage());
+        }
+        return VALUES[value];
+    }
+
+    /**
+     * Reads an Elbonian numeral or an Arabic number, with the same rules as the ElbonianArabicConverter
+     * constructor, except that a blank String is out of bounds.
+     *
+     * @param number The number to read, which may have leading and trailing spaces
+     * @return The ElbonianNumber for the value
+     * @throws MalformedNumberException Thrown if the number does not follow the rules of the Elbonian
+     * number system.
+     * @throws ValueOutOfBoundsException Thrown if the number cannot be represented in the Elbonian number
+     * system.
+     */
+    public static ElbonianNumber parse(CharSequence number) throws MalformedNumberException,
+            ValueOutOfBoundsException {
+        return valueOf(ConversionResult.valueOrThrow(ElbonianArabicConverter.classify(number, 0, number.length()),
+                number));
+    }
+
+    /**
+     * @param other The number to add
+     * @return The sum of the two numbers
+     * @throws ValueOutOfBoundsException Thrown if the sum is over 2999.
+     */
+    public ElbonianNumber add(ElbonianNumber other) throws ValueOutOfBoundsException {
+        return valueOf(value + other.value);
+    }
+
+    /**
+     * @param other The number to subtract
+     * @return The difference of the two numbers
+     * @throws ValueOutOfBoundsException Thrown if the difference is below 1.
+     */
+    public ElbonianNumber subtract(ElbonianNumber other) throws ValueOutOfBoundsException {
+        return valueOf(value - other.value);
+    }
+
+    /**
+     * Appends the Elbonian numeral for this number.
+     *
+     * @param builder The StringBuilder to append to
+     * @return The builder that was passed in
+     */
+    public StringBuilder appendTo(StringBuilder builder) {
+        return builder.append(ElbonianTables.numeral(value));
+    }
+
+    /**
+     * @return The number written in decimal, shared with every other caller asking for the same value
+     */
+    public String toArabicString() {
+        return ElbonianTables.decimal(value);
+    }
+
+    /**
+     * @return The Elbonian numeral for this number, shared with every other caller asking for the same value
+     */
+    @Override
+    public String toString() {
+        return ElbonianTables.numeral(value);
+    }
+
+    @Override
+    public int intValue() {
+        return value;
+    }
+
+    @Override
+    public long longValue() {
+        return value;
+    }
+
+    @Override
+    public float floatValue() {
+        return value;
+    }
+
+    @Override
+    public double doubleValue() {
+        return value;
+    }
+
+    @Override
+    public short shortValue() {
+        return value;
+    }
+
+    @Override
+    public int compareTo(ElbonianNumber other) {
+        return Short.compare(value, other.value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ElbonianNumber && ((ElbonianNumber) other).value == value;
+    }
+
+    @Override
+    public int hashCode() {
+        return value;
+    }
+
+    // Keeps one instance per value when deserializing
+    private Object readResolve() throws InvalidObjectException {
+        if(value < ElbonianTables.MIN_VALUE || value > ElbonianTables.MAX_VALUE) {
+            throw new InvalidObjectException("ElbonianNumber value " + value + " is out of bounds");
+        }
+        return VALUES[value];
+    }
+
+}
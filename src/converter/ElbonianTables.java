@@ -0,0 +1,184 @@
+package converter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Precomputed lookup tables for every value the Elbonian number system can represent. The tables are
+ * built once, on first use, and are never modified afterwards so they can be shared between threads.
+ *
+ * The tables are compiled by NumeralSystem.ELBONIAN from the rules of the Elbonian number system as a
+ * finite automaton whose states are the valid numerals. Every prefix of a valid numeral is itself valid and
+ * no two numerals have the same value, so each state is numbered by the value of the numeral it spells.
+ * Walking the automaton one symbol at a time therefore both validates a numeral and ends on its Arabic value.
+ * They are copied into static final fields here so the converter's own loops read them as constants.
+ *
+ * The converter.tables system property chooses when the tables are built: "lazy", the default, builds
+ * them the first time a conversion needs them; "eager" builds them as soon as the ElbonianArabicConverter
+ * class is loaded; and "resource" is lazy but reads the numerals from the prebuilt NUMERALS_RESOURCE
+ * instead of generating them from the rules.
+ *
+ * @version 10/18/26
+ */
+final class ElbonianTables {
+
+    // The smallest and largest values that can be written as an Elbonian numeral
+    static final int MIN_VALUE = 1;
+    static final int MAX_VALUE = 2999;
+
+    // The length of the longest Elbonian numeral, MMECCZXXKII
+    static final int MAX_LENGTH = 11;
+
+    // The Elbonian symbols from the largest to the smallest value
+    static final String SYMBOLS = "MEDCZYXKJI";
+
+    // How the tables are built, read from the converter.tables system property
+    static final String MODE = System.getProperty("converter.tables", "lazy");
+
+    // The resource holding every numeral, one per line, line n holding the numeral for n
+    static final String NUMERALS_RESOURCE = "elbonian-numerals.txt";
+
+    // Maps an ASCII character to its index in SYMBOLS, or -1 if it is not an Elbonian symbol
+    static final byte[] SYMBOL_INDEX = new byte[128];
+
+    static {
+        Arrays.fill(SYMBOL_INDEX, (byte) -1);
+        for(int s = 0; s < SYMBOLS.length(); s++) {
+            SYMBOL_INDEX[SYMBOLS.charAt(s)] = (byte) s;
+        }
+    }
+
+    private ElbonianTables() {
+    }
+
+    /**
+     * Holds the tables so that they are only built the first time a conversion needs them.
+     */
+    private static final class Holder {
+
+        // NUMERALS[n] is the Elbonian numeral for n; NUMERALS[0] is the empty numeral
+        static final String[] NUMERALS = NumeralSystem.ELBONIAN.numerals;
+
+        // NEXT[n * 10 + s] is the value of NUMERALS[n] followed by SYMBOLS[s], or -1 if that is not valid
+        static final short[] NEXT = NumeralSystem.ELBONIAN.next;
+
+        static {
+            if(NUMERALS.length != MAX_VALUE + 1 || Arrays.asList(NUMERALS).contains(null)) {
+                throw new IllegalStateException("Elbonian rules do not give one numeral per value");
+            }
+        }
+    }
+
+    /**
+     * Holds the decimal Strings separately, so they are only built if something asks for Arabic text.
+     */
+    private static final class Decimals {
+
+        // DECIMALS[n] is Integer.toString(n)
+        static final String[] DECIMALS = new String[MAX_VALUE + 1];
+
+        static {
+            for(int value = 0; value <= MAX_VALUE; value++) {
+                DECIMALS[value] = Integer.toString(value);
+            }
+        }
+    }
+
+    /**
+     * Builds every table now rather than on first use.
+     */
+    static void warmUp() {
+        if(Holder.NEXT.length == 0 || Decimals.DECIMALS.length == 0) {
+            throw new IllegalStateException("Elbonian tables are empty");
+        }
+    }
+
+    /**
+     * Reads the numerals from NUMERALS_RESOURCE when MODE asks for it.
+     *
+     * @return The numeral for each value, or null if they should be generated from the rules instead
+     */
+    static String[] prebuiltNumerals() {
+        if(!"resource".equals(MODE)) {
+            return null;
+        }
+        try(InputStream in = ElbonianTables.class.getResourceAsStream(NUMERALS_RESOURCE)) {
+            if(in == null) {
+                return null;
+            }
+            byte[] bytes = new byte[(MAX_VALUE + 1) * (MAX_LENGTH + 1)];
+            int length = 0;
+            for(int read; length < bytes.length && (read = in.read(bytes, length, bytes.length - length)) > 0; ) {
+                length += read;
+            }
+            String[] numerals = new String[MAX_VALUE + 1];
+            int value = 0;
+            int start = 0;
+            for(int a = 0; a < length && value <= MAX_VALUE; a++) {
+                if(bytes[a] == '\n') {
+                    numerals[value++] = new String(bytes, start, a - start, StandardCharsets.US_ASCII);
+                    start = a + 1;
+                }
+            }
+            return value == MAX_VALUE + 1 ? numerals : null;
+        } catch(IOException e) {
+            // Generate them instead
+            return null;
+        }
+    }
+
+    /**
+     * Returns the Elbonian numeral for a value. The same String instance is returned on every call.
+     *
+     * @param value A value between 0 and MAX_VALUE; 0 maps to the empty numeral.
+     * @return The Elbonian numeral for the value
+     */
+    static String numeral(int value) {
+        return Holder.NUMERALS[value];
+    }
+
+    /**
+     * Returns the Arabic decimal String for a value. The same String instance is returned on every call.
+     *
+     * @param value A value between 0 and MAX_VALUE
+     * @return The value written in decimal
+     */
+    static String decimal(int value) {
+        return Decimals.DECIMALS[value];
+    }
+
+    /**
+     * @return The automaton's transitions: entry n * 10 + s is the state reached from state n by SYMBOLS[s],
+     * or -1
+     */
+    static short[] next() {
+        return Holder.NEXT;
+    }
+
+    /**
+     * Looks up the Arabic value of the Elbonian numeral held in part of a character sequence.
+     *
+     * @param number The characters to read
+     * @param from The index of the first character of the numeral
+     * @param to The index after the last character of the numeral
+     * @return The value of the numeral, 0 for an empty range, or -1 if the range is not a valid numeral
+     */
+    static int value(CharSequence number, int from, int to) {
+        short[] next = Holder.NEXT;
+        int state = 0;
+        for(int a = from; a < to; a++) {
+            char ch = number.charAt(a);
+            if(ch >= 128 || SYMBOL_INDEX[ch] < 0) {
+                return -1;
+            }
+            state = next[state * SYMBOLS.length() + SYMBOL_INDEX[ch]];
+            if(state < 0) {
+                return -1;
+            }
+        }
+        return state;
+    }
+
+}
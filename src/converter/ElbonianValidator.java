@@ -0,0 +1,119 @@
+package converter;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Checks Elbonian numerals against the rules of the Elbonian number system in a single pass and without
+ * throwing. The numeral is walked through the automaton in ElbonianTables, which validates it and finds its
+ * value at the same time. Only when the automaton rejects a symbol does the rest of the numeral get
+ * scanned, continuing from the rejected symbol, to find out which rule it breaks.
+ *
+ * @version 10/18/26
+ */
+final class ElbonianValidator {
+
+    // Sets of rules to check, as bits indexed by ConversionError ordinal
+    static final int CHARACTER_RULES = 1 << ConversionError.INVALID_CHARACTER.ordinal();
+    static final int DUPLICATE_RULES = 1 << ConversionError.TOO_MANY_REPEATS.ordinal()
+            | 1 << ConversionError.EXCLUDED_COMBINATION.ordinal();
+    static final int ORDER_RULES = 1 << ConversionError.OUT_OF_ORDER.ordinal();
+    static final int ALL_RULES = CHARACTER_RULES | DUPLICATE_RULES | ORDER_RULES;
+
+    private ElbonianValidator() {
+    }
+
+    /**
+     * Validates the Elbonian numeral held between two indexes of a character sequence. When the numeral
+     * breaks more than one rule, the error is the one the constructor reports: invalid characters first,
+     * then repeats, then excluded combinations, then order.
+     *
+     * @param number The characters to read
+     * @param from The index of the first character of the numeral
+     * @param to The index after the last character of the numeral
+     * @return A successful result code holding the value of the numeral, or an error result code
+     */
+    static int validate(CharSequence number, int from, int to) {
+        return walk(number, from, to, ALL_RULES, true);
+    }
+
+    /**
+     * Validates the Elbonian numeral held as ASCII bytes between two indexes of an array.
+     *
+     * @param number The bytes to read
+     * @param from The index of the first byte of the numeral
+     * @param to The index after the last byte of the numeral
+     * @return A successful result code holding the value of the numeral, or an error result code
+     */
+    static int validate(byte[] number, int from, int to) {
+        short[] next = ElbonianTables.next();
+        int state = 0;
+        for(int a = from; a < to; a++) {
+            int s = number[a] < 0 ? -1 : ElbonianTables.SYMBOL_INDEX[number[a]];
+            int following = s < 0 ? -1 : next[state * ElbonianTables.SYMBOLS.length() + s];
+            if(following < 0) {
+                return diagnose(new AsciiSequence().reset(ByteBuffer.wrap(number), 0, to), a, to, state, ALL_RULES);
+            }
+            state = following;
+        }
+        return ConversionResult.success(state, true);
+    }
+
+    /**
+     * Validates the Elbonian numeral held as ASCII bytes between two absolute indexes of a buffer.
+     *
+     * @param number The buffer to read
+     * @param from The index of the first byte of the numeral
+     * @param to The index after the last byte of the numeral
+     * @return A successful result code holding the value of the numeral, or an error result code
+     */
+    static int validate(ByteBuffer number, int from, int to) {
+        short[] next = ElbonianTables.next();
+        int state = 0;
+        for(int a = from; a < to; a++) {
+            byte b = number.get(a);
+            int s = b < 0 ? -1 : ElbonianTables.SYMBOL_INDEX[b];
+            int following = s < 0 ? -1 : next[state * ElbonianTables.SYMBOLS.length() + s];
+            if(following < 0) {
+                return diagnose(new AsciiSequence().reset(number, 0, to), a, to, state, ALL_RULES);
+            }
+            state = following;
+        }
+        return ConversionResult.success(state, true);
+    }
+
+    /**
+     * Checks part of a character sequence against some of the Elbonian rules, ignoring the others.
+     *
+     * @param number The characters to read
+     * @param from The index of the first character of the numeral
+     * @param to The index after the last character of the numeral
+     * @param rules The rules to check, such as CHARACTER_RULES or DUPLICATE_RULES
+     * @return An error result code for the first broken rule, or 0 if none of the rules is broken
+     */
+    static int check(CharSequence number, int from, int to, int rules) {
+        return walk(number, from, to, rules, false);
+    }
+
+    private static int walk(CharSequence number, int from, int to, int rules, boolean value) {
+        short[] next = ElbonianTables.next();
+        int state = 0;
+        for(int a = from; a < to; a++) {
+            int s = symbol(number.charAt(a));
+            int following = s < 0 ? -1 : next[state * ElbonianTables.SYMBOLS.length() + s];
+            if(following < 0) {
+                return diagnose(number, a, to, state, rules);
+            }
+            state = following;
+        }
+        return value ? ConversionResult.success(state, true) : 0;
+    }
+
+    private static int symbol(char ch) {
+        return ch < 128 ? ElbonianTables.SYMBOL_INDEX[ch] : -1;
+    }
+
+    private static int diagnose(CharSequence number, int from, int to, int state, int rules) {
+        return NumeralSystem.ELBONIAN.diagnose(number, from, to, state, rules);
+    }
+
+}
@@ -0,0 +1,130 @@
+package converter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Sends conversion requests to a ConversionServer from several threads for a fixed time and reports the
+ * request rate and the 50th and 99th percentile latency.
+ *
+ * Usage: java converter.LoadGenerator [url] [threads] [seconds] [batch size]
+ *
+ * The url defaults to http://localhost:8080, and a batch size of 0 (the default) sends single GET
+ * /toElbonian requests instead of POST /batch requests. With no server at the url, one is started on a
+ * free local port for the run.
+ *
+ * @version 10/18/26
+ */
+public class LoadGenerator {
+
+    // The latencies each thread has room for at first; the arrays double as they fill
+    private static final int INITIAL_SAMPLES = 1024;
+
+    public static void main(String[] args) throws Exception {
+        String url = args.length > 0 ? args[0] : "http://localhost:8080";
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        int batch = args.length > 3 ? Integer.parseInt(args[3]) : 0;
+
+        ConversionServer local = null;
+        try {
+            send(url, 0, new Random());
+        } catch(IOException e) {
+            ConversionServer.enableNoDelay();
+            local = new ConversionServer(0);
+            url = "http://localhost:" + local.getPort();
+            System.out.println("No server found, started one at " + url);
+        }
+
+        long end = System.nanoTime() + seconds * 1_000_000_000L;
+        long[][] latencies = new long[threads][INITIAL_SAMPLES];
+        long[] counts = new long[threads];
+        long[] failures = new long[threads];
+        Thread[] workers = new Thread[threads];
+        String target = url;
+        for(int t = 0; t < threads; t++) {
+            int worker = t;
+            workers[t] = new Thread(() -> {
+                Random random = new Random(worker);
+                while(System.nanoTime() < end) {
+                    long start = System.nanoTime();
+                    try {
+                        send(target, batch, random);
+                    } catch(IOException e) {
+                        failures[worker]++;
+                    }
+                    long latency = System.nanoTime() - start;
+                    if(counts[worker] == latencies[worker].length) {
+                        latencies[worker] = Arrays.copyOf(latencies[worker], 2 * latencies[worker].length);
+                    }
+                    latencies[worker][(int) counts[worker]++] = latency;
+                }
+            });
+            workers[t].start();
+        }
+        for(Thread worker : workers) {
+            worker.join();
+        }
+        if(local != null) {
+            local.stop();
+        }
+
+        long requests = 0;
+        long failed = 0;
+        for(int t = 0; t < threads; t++) {
+            requests += counts[t];
+            failed += failures[t];
+        }
+        long[] all = new long[(int) requests];
+        int position = 0;
+        for(int t = 0; t < threads; t++) {
+            System.arraycopy(latencies[t], 0, all, position, (int) counts[t]);
+            position += (int) counts[t];
+        }
+        Arrays.sort(all);
+        System.out.printf("%d requests (%d failed) in %d s: %.0f requests/s, %.0f values/s%n", requests, failed,
+                seconds, requests / (double) seconds, requests * (double) Math.max(batch, 1) / seconds);
+        if(all.length > 0) {
+            System.out.printf("latency p50 %.1f us, p99 %.1f us%n", all[all.length / 2] / 1e3,
+                    all[(int) (all.length * 0.99)] / 1e3);
+        }
+    }
+
+    private static void send(String url, int batch, Random random) throws IOException {
+        HttpURLConnection connection;
+        if(batch == 0) {
+            connection = (HttpURLConnection) new URL(url + "/toElbonian?n=" + (1 + random.nextInt(2999))).openConnection();
+        } else {
+            StringBuilder body = new StringBuilder();
+            for(int a = 0; a < batch; a++) {
+                body.append(1 + random.nextInt(2999)).append('\n');
+            }
+            connection = (HttpURLConnection) new URL(url + "/batch?to=elbonian").openConnection();
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            try(OutputStream out = connection.getOutputStream()) {
+                out.write(body.toString().getBytes(StandardCharsets.US_ASCII));
+            }
+        }
+        if(connection.getResponseCode() != 200) {
+            throw new IOException("Status " + connection.getResponseCode());
+        }
+        // Reading the whole response lets the connection be kept alive for the next request
+        try(InputStream in = connection.getInputStream()) {
+            ByteArrayOutputStream ignored = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while((read = in.read(buffer)) >= 0) {
+                ignored.write(buffer, 0, read);
+            }
+        }
+    }
+
+}
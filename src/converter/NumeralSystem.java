@@ -0,0 +1,374 @@
+package converter;
+
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.util.Arrays;
+
+/**
+ * An additive number system such as the Elbonian one, defined by its symbols and rules rather than by code.
+ * A numeral is a run of symbols written from the largest value to the smallest, whose value is the sum of
+ * its symbols. Each symbol may only be repeated so many times, and each excluded group of symbols may not
+ * all appear in the same numeral.
+ *
+ * The constructor compiles the definition into the finite automaton used by the ElbonianArabicConverter:
+ * a table of transitions whose states are the valid numerals, numbered by their value, together with a
+ * table of numerals for formatting. Validating, parsing and formatting are then table lookups, the same for
+ * every system, so supporting another system, such as additive Roman numerals, needs only its definition:
+ *
+ *     new NumeralSystem("MDCLXVI", new int[] {1000, 500, 100, 50, 10, 5, 1}, new int[] {4, 1, 4, 1, 4, 1, 4});
+ *
+ * @version 10/18/26
+ */
+public final class NumeralSystem {
+
+    /**
+     * The Elbonian number system.
+     */
+    public static final NumeralSystem ELBONIAN = new NumeralSystem(ElbonianTables.SYMBOLS,
+            new int[] {1000, 600, 300, 100, 60, 30, 10, 6, 3, 1},
+            new int[] {2, 1, 1, 2, 1, 1, 2, 1, 1, 2},
+            ElbonianTables.prebuiltNumerals(), "EDC", "ZYX", "KJI");
+
+    // Counts are packed COUNT_BITS to a symbol, so a symbol can be counted up to COUNT_LIMIT times
+    private static final int COUNT_BITS = 3;
+    private static final int COUNT_LIMIT = (1 << COUNT_BITS) - 1;
+    private static final int MAX_SYMBOLS = Integer.SIZE / COUNT_BITS;
+
+    private final String symbols;
+    private final int[] values;
+    private final int[] maxRepeats;
+    // excluded[s] holds the indexes of the symbols in the group symbol s belongs to, or null
+    private final int[][] excluded;
+    // Maps an ASCII character to its index in symbols, or -1 if it is not a symbol
+    private final byte[] symbolIndex = new byte[128];
+
+    private final int maxValue;
+    // numerals[n] is the numeral for n, or null if n has none; numerals[0] is the empty numeral
+    final String[] numerals;
+    // next[n * symbols.length() + s] is the value of numerals[n] followed by symbol s, or -1 if that is not valid
+    final short[] next;
+    // counts[n] holds how many times each symbol appears in numerals[n], packed by count()
+    final int[] counts;
+
+    /**
+     * Defines and compiles a number system.
+     *
+     * @param symbols The ASCII symbols, from the largest value to the smallest
+     * @param values The value of each symbol
+     * @param maxRepeats The most times each symbol can appear in a numeral, at most 6
+     * @param excluded Groups of symbols that cannot all appear in the same numeral
+     * @throws IllegalArgumentException If the definition does not give one numeral per value
+     */
+    public NumeralSystem(String symbols, int[] values, int[] maxRepeats, String... excluded) {
+        this(symbols, values, maxRepeats, null, excluded);
+    }
+
+    /**
+     * Defines a number system, taking its numerals from a table built earlier when one is given. The table
+     * is checked to be consistent with the symbols but is otherwise trusted to follow the rules.
+     *
+     * @param prebuilt The numeral for each value, as the rules would generate them, or null to generate them
+     */
+    private NumeralSystem(String symbols, int[] values, int[] maxRepeats, String[] prebuilt, String... excluded) {
+        int length = symbols.length();
+        if(length == 0 || length > MAX_SYMBOLS || values.length != length || maxRepeats.length != length) {
+            throw new IllegalArgumentException("Need one value and one repeat limit for each of 1 to "
+                    + MAX_SYMBOLS + " symbols");
+        }
+        this.symbols = symbols;
+        this.values = values.clone();
+        this.maxRepeats = maxRepeats.clone();
+        this.excluded = new int[length][];
+
+        Arrays.fill(symbolIndex, (byte) -1);
+        long largest = 0;
+        for(int s = 0; s < length; s++) {
+            char ch = symbols.charAt(s);
+            if(ch >= 128 || symbolIndex[ch] >= 0) {
+                throw new IllegalArgumentException("Symbols must be distinct ASCII characters");
+            }
+            if(values[s] < 1 || s > 0 && values[s] >= values[s - 1]) {
+                throw new IllegalArgumentException("Symbol values must be positive and decreasing");
+            }
+            if(maxRepeats[s] < 1 || maxRepeats[s] >= COUNT_LIMIT) {
+                throw new IllegalArgumentException("Symbols can be repeated 1 to " + (COUNT_LIMIT - 1) + " times");
+            }
+            symbolIndex[ch] = (byte) s;
+            largest += (long) values[s] * maxRepeats[s];
+        }
+        if(largest > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Values must stay below " + Short.MAX_VALUE);
+        }
+        for(String group : excluded) {
+            int[] indexes = new int[group.length()];
+            for(int a = 0; a < indexes.length; a++) {
+                int s = symbol(group.charAt(a));
+                if(s < 0 || this.excluded[s] != null) {
+                    throw new IllegalArgumentException("Excluded groups must be distinct symbols: " + group);
+                }
+                indexes[a] = s;
+            }
+            for(int s : indexes) {
+                this.excluded[s] = indexes;
+            }
+        }
+
+        String[] numerals = prebuilt != null && consistent(prebuilt) ? prebuilt : generate((int) largest);
+        this.maxValue = numerals.length - 1;
+        this.numerals = numerals;
+        this.next = new short[numerals.length * length];
+        this.counts = new int[numerals.length];
+        Arrays.fill(next, (short) -1);
+        // The numeral for a value less its last symbol is the numeral for the value less that symbol's value
+        for(int value = 1; value <= maxValue; value++) {
+            String numeral = numerals[value];
+            if(numeral == null) {
+                continue;
+            }
+            int s = symbol(numeral.charAt(numeral.length() - 1));
+            int previous = value - values[s];
+            next[previous * length + s] = (short) value;
+            counts[value] = counts[previous] + (1 << COUNT_BITS * s);
+        }
+    }
+
+    /**
+     * Generates the numeral for every value from the rules.
+     *
+     * @param largest The largest value any numeral could have
+     * @return The numerals, up to the largest value that has one
+     */
+    private String[] generate(int largest) {
+        int length = symbols.length();
+        String[] numerals = new String[largest + 1];
+        int[] counts = new int[numerals.length];
+        numerals[0] = "";
+        int max = 0;
+        // Every symbol adds to the value, so visiting states in increasing order reaches them all
+        for(int value = 0; value < numerals.length; value++) {
+            String numeral = numerals[value];
+            if(numeral == null) {
+                continue;
+            }
+            max = value;
+            int last = numeral.isEmpty() ? 0 : symbol(numeral.charAt(numeral.length() - 1));
+            for(int s = last; s < length; s++) {
+                int added = counts[value] + (1 << COUNT_BITS * s);
+                if(count(added, s) > maxRepeats[s] || excluded(added, s)) {
+                    continue;
+                }
+                int following = value + values[s];
+                if(numerals[following] != null) {
+                    throw new IllegalArgumentException("The rules give more than one numeral for " + following);
+                }
+                numerals[following] = numeral + symbols.charAt(s);
+                counts[following] = added;
+            }
+        }
+        return Arrays.copyOf(numerals, max + 1);
+    }
+
+    /**
+     * Checks that a prebuilt table of numerals only uses the symbols and that each numeral, less its last
+     * symbol, is the numeral for the value less that symbol's value.
+     *
+     * @param numerals The table to check
+     * @return True if the table can be used
+     */
+    private boolean consistent(String[] numerals) {
+        if(numerals.length == 0 || !"".equals(numerals[0]) || numerals[numerals.length - 1] == null) {
+            return false;
+        }
+        for(int value = 1; value < numerals.length; value++) {
+            String numeral = numerals[value];
+            if(numeral == null) {
+                continue;
+            }
+            int s = numeral.isEmpty() ? -1 : symbol(numeral.charAt(numeral.length() - 1));
+            int previous = s < 0 ? -1 : value - values[s];
+            if(previous < 0 || numerals[previous] == null || numerals[previous].length() != numeral.length() - 1
+                    || !numeral.startsWith(numerals[previous])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The symbols, from the largest value to the smallest
+     */
+    public String getSymbols() {
+        return symbols;
+    }
+
+    /**
+     * @param symbol The index of a symbol in getSymbols()
+     * @return The value of the symbol
+     */
+    int symbolValue(int symbol) {
+        return values[symbol];
+    }
+
+    /**
+     * @return The largest value that has a numeral
+     */
+    public int getMaxValue() {
+        return maxValue;
+    }
+
+    private int symbol(char ch) {
+        return ch < 128 ? symbolIndex[ch] : -1;
+    }
+
+    private static int count(int counts, int symbol) {
+        return counts >>> COUNT_BITS * symbol & COUNT_LIMIT;
+    }
+
+    /**
+     * Checks whether adding a symbol completed its excluded group.
+     *
+     * @param counts The packed counts, including the symbol just added
+     * @param symbol The index of the symbol just added
+     * @return True if every symbol in the symbol's group now appears
+     */
+    private boolean excluded(int counts, int symbol) {
+        if(excluded[symbol] == null) {
+            return false;
+        }
+        for(int s : excluded[symbol]) {
+            if(count(counts, s) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Looks up the value of the numeral held in part of a character sequence.
+     *
+     * @param number The characters to read
+     * @param from The index of the first character of the numeral
+     * @param to The index after the last character of the numeral
+     * @return The value of the numeral, 0 for an empty range, or -1 if the range is not a valid numeral
+     */
+    public int value(CharSequence number, int from, int to) {
+        short[] next = this.next;
+        int length = symbols.length();
+        int state = 0;
+        for(int a = from; a < to; a++) {
+            int s = symbol(number.charAt(a));
+            if(s < 0) {
+                return -1;
+            }
+            state = next[state * length + s];
+            if(state < 0) {
+                return -1;
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Validates the numeral held in part of a character sequence. When the numeral breaks more than one
+     * rule, invalid characters are reported first, then repeats, then excluded groups, then order.
+     *
+     * @param number The characters to read
+     * @param from The index of the first character of the numeral
+     * @param to The index after the last character of the numeral
+     * @return A successful result code holding the value of the numeral, or an error result code, as read by
+     * ConversionResult
+     */
+    public int validate(CharSequence number, int from, int to) {
+        short[] next = this.next;
+        int length = symbols.length();
+        int state = 0;
+        for(int a = from; a < to; a++) {
+            int s = symbol(number.charAt(a));
+            int following = s < 0 ? -1 : next[state * length + s];
+            if(following < 0) {
+                return diagnose(number, a, to, state, ElbonianValidator.ALL_RULES);
+            }
+            state = following;
+        }
+        return ConversionResult.success(state, true);
+    }
+
+    /**
+     * Formats a value as a numeral. The same String instance is returned on every call.
+     *
+     * @param value The value to format
+     * @return The numeral for the value
+     * @throws ValueOutOfBoundsException If the value has no numeral
+     */
+    public String format(int value) throws ValueOutOfBoundsException {
+        if(value < 1 || value > maxValue || numerals[value] == null) {
+            throw new ValueOutOfBoundsException("Number must be between 1 and " + maxValue);
+        }
+        return numerals[value];
+    }
+
+    /**
+     * Finds which rule a numeral breaks, given that the automaton rejected one of its characters.
+     *
+     * @param number The characters to read
+     * @param from The index of the rejected character
+     * @param to The index after the last character of the numeral
+     * @param state The state the automaton was in before the rejected character
+     * @param rules The rules to check, as ElbonianValidator rule bits
+     * @return An error result code for the first broken rule, or 0 if none of the rules is broken
+     */
+    int diagnose(CharSequence number, int from, int to, int state, int rules) {
+        // Everything before from is the valid numeral of state, so pick up its counts and smallest symbol
+        int counts = this.counts[state];
+        int smallest = 0;
+        for(int s = 0; s < symbols.length(); s++) {
+            if(count(counts, s) != 0) {
+                smallest = s;
+            }
+        }
+
+        // Like the original converter, repeats of the symbols allowed most often are reported first, and
+        // excluded groups holding larger symbols before those holding smaller ones
+        int repeat = -1;
+        int repeatLimit = 0;
+        int exclusion = -1;
+        int exclusionGroup = Integer.MAX_VALUE;
+        int order = -1;
+        for(int a = from; a < to; a++) {
+            int s = symbol(number.charAt(a));
+            if(s < 0) {
+                if((rules & ElbonianValidator.CHARACTER_RULES) != 0) {
+                    return ConversionResult.error(ConversionError.INVALID_CHARACTER, a);
+                }
+                continue;
+            }
+            if(count(counts, s) < COUNT_LIMIT) {
+                counts += 1 << COUNT_BITS * s;
+            }
+            if(count(counts, s) > maxRepeats[s] && maxRepeats[s] > repeatLimit) {
+                repeat = a;
+                repeatLimit = maxRepeats[s];
+            }
+            if(excluded(counts, s) && excluded[s][0] < exclusionGroup) {
+                exclusion = a;
+                exclusionGroup = excluded[s][0];
+            }
+            if(order < 0 && s < smallest) {
+                order = a;
+            }
+            smallest = Math.max(smallest, s);
+        }
+
+        if(repeat >= 0 && (rules & ElbonianValidator.DUPLICATE_RULES) != 0) {
+            return ConversionResult.error(ConversionError.TOO_MANY_REPEATS, repeat);
+        }
+        if(exclusion >= 0 && (rules & ElbonianValidator.DUPLICATE_RULES) != 0) {
+            return ConversionResult.error(ConversionError.EXCLUDED_COMBINATION, exclusion);
+        }
+        if(order >= 0 && (rules & ElbonianValidator.ORDER_RULES) != 0) {
+            return ConversionResult.error(ConversionError.OUT_OF_ORDER, order);
+        }
+        return 0;
+    }
+
+}
@@ -0,0 +1,61 @@
+package converter;
+
+/**
+ * Scans Elbonian numerals packed back to back as ASCII bytes, such as a column read from a file. Each
+ * range is scanned one byte at a time with a table lookup; the compiled loop is as fast as testing eight
+ * bytes at a time in a long, which PackedScannerBenchmark measured slower from 1024 bytes up.
+ *
+ * @version 10/18/26
+ */
+public final class PackedScanner {
+
+    // VALUE_OF[b] is the value of the Elbonian symbol with ASCII code b, or 0 if b is not a symbol
+    private static final int[] VALUE_OF = new int[256];
+
+    static {
+        NumeralSystem system = NumeralSystem.ELBONIAN;
+        String symbols = system.getSymbols();
+        for(int s = 0; s < symbols.length(); s++) {
+            VALUE_OF[symbols.charAt(s)] = system.symbolValue(s);
+        }
+    }
+
+    private PackedScanner() {
+    }
+
+    /**
+     * Finds the first byte in a range that is not an Elbonian symbol, the check checkValidCharacters makes.
+     *
+     * @param packed The bytes to scan
+     * @param from The index of the first byte to scan
+     * @param to The index after the last byte to scan
+     * @return The index of the first byte that is not a symbol, or -1 if every byte is one
+     */
+    public static int indexOfInvalidCharacter(byte[] packed, int from, int to) {
+        for(int a = from; a < to; a++) {
+            if(VALUE_OF[packed[a] & 0xFF] == 0) {
+                return a;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds up the values of the Elbonian symbols in a range, the lookup toArabic makes for each symbol. For
+     * a range holding only valid numerals this is the sum of their values. Bytes that are not symbols add
+     * nothing.
+     *
+     * @param packed The bytes to scan
+     * @param from The index of the first byte to scan
+     * @param to The index after the last byte to scan
+     * @return The total value of the symbols
+     */
+    public static long sumValues(byte[] packed, int from, int to) {
+        long sum = 0;
+        for(int a = from; a < to; a++) {
+            sum += VALUE_OF[packed[a] & 0xFF];
+        }
+        return sum;
+    }
+
+}
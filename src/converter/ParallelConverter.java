@@ -0,0 +1,208 @@
+package converter;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Converts large columns of values on several threads. The input is split in halves with fork/join until
+ * the pieces are no larger than a threshold, and the pieces are converted on the pool's threads. Results
+ * are written in place, so the output keeps the input order, and errors are reported in the same bitmap
+ * form as BatchConverter.
+ *
+ * @version 10/18/26
+ */
+public final class ParallelConverter {
+
+    /**
+     * The default piece size below which conversion stays on the calling thread. Pieces are split on
+     * multiples of 64 so that no two threads ever write to the same word of the error bitmap.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 14;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * Creates a parallel converter that runs on the common fork/join pool with the default threshold.
+     */
+    public ParallelConverter() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Creates a parallel converter.
+     *
+     * @param pool The pool to run conversions on
+     * @param threshold The largest number of values a single task converts without splitting; rounded up
+     * to a multiple of 64
+     */
+    public ParallelConverter(ForkJoinPool pool, int threshold) {
+        if(threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be at least 1");
+        }
+        this.pool = pool;
+        this.threshold = threshold + 63 & ~63;
+    }
+
+    /**
+     * Classifies every String the way ElbonianArabicConverter.classify does, like BatchConverter.classify.
+     *
+     * @param in The Strings to classify
+     * @param results Receives the result code for each String; read them with ConversionResult
+     * @return The bitmap of the Strings that are not valid
+     */
+    public long[] classify(String[] in, int[] results) {
+        long[] errors = new long[in.length + 63 >>> 6];
+        run(in.length, (from, to) -> {
+            for(int a = from; a < to; a++) {
+                int result = ElbonianArabicConverter.classify(in[a], 0, in[a].length());
+                results[a] = result;
+                if(result < 0) {
+                    errors[a >>> 6] |= 1L << a;
+                }
+            }
+        });
+        return errors;
+    }
+
+    /**
+     * Classifies lines of ASCII bytes the way ElbonianArabicConverter.classify does for a byte array, without
+     * decoding them into Strings.
+     *
+     * @param in The bytes holding the lines
+     * @param starts starts[a] is the index of the first byte of line a, and starts[a + 1] - 1 the index of
+     * the newline that ends it, or of the end of the line if it has none
+     * @param count The number of lines
+     * @param results Receives the result code for each line; read them with ConversionResult
+     * @return The bitmap of the lines that are not valid
+     */
+    public long[] classify(byte[] in, int[] starts, int count, int[] results) {
+        long[] errors = new long[count + 63 >>> 6];
+        run(count, (from, to) -> {
+            for(int a = from; a < to; a++) {
+                int result = ElbonianArabicConverter.classify(in, starts[a], starts[a + 1] - 1);
+                results[a] = result;
+                if(result < 0) {
+                    errors[a >>> 6] |= 1L << a;
+                }
+            }
+        });
+        return errors;
+    }
+
+    /**
+     * Converts Strings holding Arabic numbers or Elbonian numerals to their Arabic values, like
+     * BatchConverter.toArabic.
+     *
+     * @param in The Strings to convert
+     * @param out Receives the value of each String, or 0 where it could not be converted
+     * @return The bitmap of the Strings that could not be converted
+     */
+    public long[] toArabic(String[] in, int[] out) {
+        long[] errors = new long[in.length + 63 >>> 6];
+        run(in.length, (from, to) -> {
+            for(int a = from; a < to; a++) {
+                int result = ElbonianArabicConverter.classify(in[a], 0, in[a].length());
+                out[a] = result < 0 ? 0 : ConversionResult.value(result);
+                if(result < 0) {
+                    errors[a >>> 6] |= 1L << a;
+                }
+            }
+        });
+        return errors;
+    }
+
+    /**
+     * Converts a list of Strings holding Arabic numbers or Elbonian numerals to their Arabic values. The
+     * list should support fast random access, such as an ArrayList.
+     *
+     * @param in The Strings to convert
+     * @param out Receives the value of each String, or 0 where it could not be converted
+     * @return The bitmap of the Strings that could not be converted
+     */
+    public long[] toArabic(List<String> in, int[] out) {
+        long[] errors = new long[in.size() + 63 >>> 6];
+        run(in.size(), (from, to) -> {
+            for(int a = from; a < to; a++) {
+                String number = in.get(a);
+                int result = ElbonianArabicConverter.classify(number, 0, number.length());
+                out[a] = result < 0 ? 0 : ConversionResult.value(result);
+                if(result < 0) {
+                    errors[a >>> 6] |= 1L << a;
+                }
+            }
+        });
+        return errors;
+    }
+
+    /**
+     * Converts Arabic values to Elbonian numerals, like BatchConverter.toElbonian.
+     *
+     * @param in The values to convert
+     * @param out Receives the numeral for each value, or null where the value is out of bounds
+     * @return The bitmap of the values that are out of bounds
+     */
+    public long[] toElbonian(int[] in, String[] out) {
+        long[] errors = new long[in.length + 63 >>> 6];
+        run(in.length, (from, to) -> {
+            for(int a = from; a < to; a++) {
+                int value = in[a];
+                if(value >= ElbonianTables.MIN_VALUE && value <= ElbonianTables.MAX_VALUE) {
+                    out[a] = ElbonianTables.numeral(value);
+                } else {
+                    out[a] = null;
+                    errors[a >>> 6] |= 1L << a;
+                }
+            }
+        });
+        return errors;
+    }
+
+    private void run(int length, Range range) {
+        if(length <= threshold) {
+            range.convert(0, length);
+        } else {
+            pool.invoke(new Split(range, threshold, 0, length));
+        }
+    }
+
+    /**
+     * Converts the values between two indexes.
+     */
+    private interface Range {
+        void convert(int from, int to);
+    }
+
+    /**
+     * Splits a range of indexes in halves until it is no larger than the threshold, then converts it.
+     */
+    private static final class Split extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Range range;
+        private final int threshold;
+        private final int from;
+        private final int to;
+
+        Split(Range range, int threshold, int from, int to) {
+            this.range = range;
+            this.threshold = threshold;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if(to - from <= threshold) {
+                range.convert(from, to);
+                return;
+            }
+            // Round the split up to a multiple of 64 so each half owns whole words of the error bitmap
+            int middle = from + ((to - from >>> 1) + 63 & ~63);
+            invokeAll(new Split(range, threshold, from, middle), new Split(range, threshold, middle, to));
+        }
+    }
+
+}
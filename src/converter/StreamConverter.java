@@ -0,0 +1,282 @@
+package converter;
+
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Converts newline separated numbers from a channel to another channel. Lines are read as ASCII bytes and
+ * checked in place, without creating a String per line, and output goes through a fixed size buffer, so
+ * memory use stays the same whatever the size of the input.
+ *
+ * Every non blank line is converted to the chosen Direction. Blank lines are copied through unchanged and
+ * are not counted as rows. A line that cannot be converted is either skipped or stops the conversion.
+ * Lines longer than the read buffer cannot be held at once and are reported as invalid.
+ *
+ * A StreamConverter keeps running totals of what it has converted and is not safe for use by several
+ * threads at once.
+ *
+ * @version 10/18/26
+ */
+public final class StreamConverter {
+
+    /**
+     * The form each converted line is written in.
+     */
+    public enum Direction {
+        // Every number is written as an Arabic number
+        ARABIC,
+        // Every number is written as an Elbonian numeral
+        ELBONIAN,
+        // Arabic numbers are written as Elbonian numerals and Elbonian numerals as Arabic numbers
+        SWAP
+    }
+
+    // The default size of the read and write buffers
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    // The size of each mapped region of a file
+    private static final int MAPPED_REGION = 1 << 26;
+
+    private final Direction direction;
+    private final boolean skipInvalid;
+    private final int bufferSize;
+
+    private ByteBuffer output;
+    private WritableByteChannel target;
+    private long lineNumber;
+
+    // True while the rest of a line too long for the buffer is being read and dropped
+    private boolean discarding;
+
+    private long rows;
+    private long errors;
+    private long bytesRead;
+    private long bytesWritten;
+
+    /**
+     * Creates a stream converter with 64KB buffers.
+     *
+     * @param direction The form to write each number in
+     * @param skipInvalid True to drop lines that cannot be converted, false to stop at the first one
+     */
+    public StreamConverter(Direction direction, boolean skipInvalid) {
+        this(direction, skipInvalid, BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a stream converter.
+     *
+     * @param direction The form to write each number in
+     * @param skipInvalid True to drop lines that cannot be converted, false to stop at the first one
+     * @param bufferSize The size of the read and write buffers, which is also the longest line that can be
+     * converted
+     */
+    public StreamConverter(Direction direction, boolean skipInvalid, int bufferSize) {
+        if(bufferSize < 64) {
+            throw new IllegalArgumentException("Buffer size must be at least 64 bytes");
+        }
+        this.direction = direction;
+        this.skipInvalid = skipInvalid;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Converts every line read from a channel until it reaches the end of its input.
+     *
+     * @param in The channel to read lines from
+     * @param out The channel to write converted lines to
+     * @throws IOException Thrown if reading or writing fails.
+     * @throws MalformedNumberException Thrown if invalid lines are not skipped and a line is not a valid
+     * number.
+     * @throws ValueOutOfBoundsException Thrown if invalid lines are not skipped and a line holds an Arabic
+     * number that cannot be represented in the Elbonian number system.
+     */
+    public void convert(ReadableByteChannel in, WritableByteChannel out) throws IOException,
+            MalformedNumberException, ValueOutOfBoundsException {
+        start(out);
+        ByteBuffer input = ByteBuffer.allocateDirect(bufferSize);
+        boolean end = false;
+        while(!end) {
+            int read = in.read(input);
+            if(read < 0) {
+                end = true;
+            } else {
+                bytesRead += read;
+            }
+            input.flip();
+            convertLines(input, end);
+            input.compact();
+        }
+        flush();
+    }
+
+    /**
+     * Converts every line of a file by mapping it into memory a region at a time.
+     *
+     * @param in The file to read lines from
+     * @param out The channel to write converted lines to
+     * @throws IOException Thrown if reading or writing fails.
+     * @throws MalformedNumberException Thrown if invalid lines are not skipped and a line is not a valid
+     * number.
+     * @throws ValueOutOfBoundsException Thrown if invalid lines are not skipped and a line holds an Arabic
+     * number that cannot be represented in the Elbonian number system.
+     */
+    public void convert(FileChannel in, WritableByteChannel out) throws IOException, MalformedNumberException,
+            ValueOutOfBoundsException {
+        start(out);
+        long size = in.size();
+        long position = in.position();
+        while(position < size) {
+            long length = Math.min(MAPPED_REGION, size - position);
+            boolean end = position + length == size;
+            MappedByteBuffer region = in.map(FileChannel.MapMode.READ_ONLY, position, length);
+            convertLines(region, end);
+            // A region that ends inside a line is mapped again from the start of that line
+            int consumed = region.position();
+            position += consumed;
+            bytesRead += consumed;
+        }
+        in.position(position);
+        flush();
+    }
+
+    private void start(WritableByteChannel out) {
+        target = out;
+        if(output == null) {
+            output = ByteBuffer.allocateDirect(bufferSize);
+        }
+        output.clear();
+        discarding = false;
+    }
+
+    /**
+     * Converts the complete lines between a buffer's position and limit, leaving the position at the start
+     * of the first incomplete line. At the end of the input the last line does not need a newline.
+     */
+    private void convertLines(ByteBuffer input, boolean end) throws IOException, MalformedNumberException,
+            ValueOutOfBoundsException {
+        int start = input.position();
+        int limit = input.limit();
+        for(int a = start; a < limit; a++) {
+            if(input.get(a) == '\n') {
+                if(discarding) {
+                    discarding = false;
+                } else {
+                    convertLine(input, start, a, true);
+                }
+                start = a + 1;
+            }
+        }
+        if(start < limit && end) {
+            if(!discarding) {
+                convertLine(input, start, limit, true);
+            }
+            start = limit;
+        } else if(start == 0 && limit == input.capacity()) {
+            // The buffer holds part of a single line, which is reported once and then dropped up to its end
+            if(!discarding) {
+                convertLine(input, start, limit, false);
+                discarding = true;
+            }
+            start = limit;
+        }
+        input.position(start);
+    }
+
+    private void convertLine(ByteBuffer input, int from, int to, boolean complete) throws IOException,
+            MalformedNumberException, ValueOutOfBoundsException {
+        lineNumber++;
+        int result;
+        if(!complete) {
+            result = ConversionResult.error(ConversionError.INVALID_CHARACTER, to - from);
+        } else {
+            result = ElbonianArabicConverter.classify(input, from, to);
+        }
+        if(result >= 0 && ConversionResult.isElbonian(result) && ConversionResult.value(result) == 0) {
+            // A blank line
+            reserve(1);
+            output.put((byte) '\n');
+            return;
+        }
+        if(ConversionResult.isError(result)) {
+            errors++;
+            if(skipInvalid) {
+                return;
+            }
+            flush();
+            ConversionError kind = ConversionResult.errorKind(result);
+            String message = "Line " + lineNumber + ": " + kind.getMessage();
+            if(kind == ConversionError.OUT_OF_RANGE) {
+                throw new ValueOutOfBoundsException(message);
+            }
+            throw new MalformedNumberException(message);
+        }
+        rows++;
+        reserve(ElbonianTables.MAX_LENGTH + 1);
+        int value = ConversionResult.value(result);
+        boolean elbonian = direction == Direction.ELBONIAN
+                || direction == Direction.SWAP && !ConversionResult.isElbonian(result);
+        if(elbonian) {
+            String numeral = ElbonianTables.numeral(value);
+            for(int a = 0; a < numeral.length(); a++) {
+                output.put((byte) numeral.charAt(a));
+            }
+        } else {
+            for(int divisor = value >= 1000 ? 1000 : value >= 100 ? 100 : value >= 10 ? 10 : 1; divisor > 0;
+                    divisor /= 10) {
+                output.put((byte) ('0' + value / divisor % 10));
+            }
+        }
+        output.put((byte) '\n');
+    }
+
+    private void reserve(int bytes) throws IOException {
+        if(output.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        output.flip();
+        while(output.hasRemaining()) {
+            bytesWritten += target.write(output);
+        }
+        output.clear();
+    }
+
+    /**
+     * @return The number of lines converted so far
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * @return The number of lines that could not be converted so far
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return The number of bytes read so far
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * @return The number of bytes written so far
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+}
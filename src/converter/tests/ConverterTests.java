@@ -1,10 +1,58 @@
 package converter.tests;
 
+import converter.BatchConverter;
+import converter.ConversionCache;
+import converter.ConversionError;
+import converter.ConversionProcessor;
+import converter.ConversionResult;
+import converter.ConversionServer;
+import converter.ConverterTool;
 import converter.ElbonianArabicConverter;
+import converter.ElbonianCodec;
+import converter.ElbonianHistogram;
+import converter.ElbonianNumber;
+import converter.NumeralSystem;
+import converter.PackedScanner;
+import converter.ParallelConverter;
+import converter.StreamConverter;
 import converter.exceptions.MalformedNumberException;
 import converter.exceptions.ValueOutOfBoundsException;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.Assert.*;
 
 /**
@@ -203,6 +251,858 @@ public class ConverterTests {
         }
     }
 
+    @Test
+    public void allValuesRoundTripTest() throws MalformedNumberException, ValueOutOfBoundsException {
+        for(int n = 1; n <= 2999; n++) {
+            String elbonian = new ElbonianArabicConverter(Integer.toString(n)).toElbonian();
+            assertEquals(new ElbonianArabicConverter(elbonian).toArabic(), n);
+        }
+    }
+
+    @Test
+    public void parseElbonianSliceTest() {
+        assertEquals(ElbonianArabicConverter.parseElbonian("12, MXXK ,34", 3, 9), 1026);
+        assertEquals(ElbonianArabicConverter.parseElbonian("MMEDZYKJ", 0, 8), 2999);
+        assertEquals(ElbonianArabicConverter.parseElbonian("MMDZYJI", 0, 3), 2300);
+        assertEquals(ElbonianArabicConverter.parseElbonian("KJI", 0, 3), -1);
+        assertEquals(ElbonianArabicConverter.parseElbonian("1026", 0, 4), -1);
+    }
+
+    @Test
+    public void formatElbonianTest() throws ValueOutOfBoundsException {
+        char[] buffer = new char[12];
+        int length = ElbonianArabicConverter.formatElbonian(2394, buffer, 2);
+        assertEquals(new String(buffer, 2, length), "MMDZYJI");
+        StringBuilder builder = new StringBuilder("x=");
+        ElbonianArabicConverter.appendElbonian(1026, builder);
+        assertEquals(builder.toString(), "x=MXXK");
+    }
+
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void formatElbonianOutOfBoundsTest() throws ValueOutOfBoundsException {
+        ElbonianArabicConverter.appendElbonian(3000, new StringBuilder());
+    }
+
+    @Test
+    public void classifyTest() {
+        int result = ElbonianArabicConverter.classify(" 1026 ", 0, 6);
+        assertFalse(ConversionResult.isError(result));
+        assertFalse(ConversionResult.isElbonian(result));
+        assertEquals(ConversionResult.value(result), 1026);
+
+        result = ElbonianArabicConverter.classify("MMEDZYKJ", 0, 8);
+        assertTrue(ConversionResult.isElbonian(result));
+        assertEquals(ConversionResult.value(result), 2999);
+    }
+
+    @Test
+    public void classifyErrorTest() {
+        int result = ElbonianArabicConverter.classify(" MM DZYJI", 0, 9);
+        assertEquals(ConversionResult.errorKind(result), ConversionError.INVALID_CHARACTER);
+        assertEquals(ConversionResult.offset(result), 3);
+
+        result = ElbonianArabicConverter.classify("MMM", 0, 3);
+        assertEquals(ConversionResult.errorKind(result), ConversionError.TOO_MANY_REPEATS);
+        assertEquals(ConversionResult.offset(result), 2);
+
+        result = ElbonianArabicConverter.classify("EDC", 0, 3);
+        assertEquals(ConversionResult.errorKind(result), ConversionError.EXCLUDED_COMBINATION);
+        assertEquals(ConversionResult.offset(result), 2);
+
+        result = ElbonianArabicConverter.classify("MDE", 0, 3);
+        assertEquals(ConversionResult.errorKind(result), ConversionError.OUT_OF_ORDER);
+        assertEquals(ConversionResult.offset(result), 2);
+
+        result = ElbonianArabicConverter.classify("  3000", 0, 6);
+        assertEquals(ConversionResult.errorKind(result), ConversionError.OUT_OF_RANGE);
+        assertEquals(ConversionResult.offset(result), 2);
+    }
+
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void classifyValueOrThrowTest() throws MalformedNumberException, ValueOutOfBoundsException {
+        ConversionResult.valueOrThrow(ElbonianArabicConverter.classify("-10000", 0, 6));
+    }
+
+    @Test
+    public void validatorMatchesReferenceTest() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianArabicConverter converter = new ElbonianArabicConverter("I");
+        ReferenceConverter reference = new ReferenceConverter("I");
+        String symbols = "MEDCZYXKJIA";
+        for(int length = 0; length <= 5; length++) {
+            int total = (int) Math.pow(symbols.length(), length);
+            for(int n = 0; n < total; n++) {
+                StringBuilder builder = new StringBuilder();
+                for(int a = 0, rest = n; a < length; a++, rest /= symbols.length()) {
+                    builder.append(symbols.charAt(rest % symbols.length()));
+                }
+                String number = builder.toString();
+                assertEquals(number, malformed(() -> converter.checkValidCharacters(number)),
+                        malformed(() -> reference.checkValidCharacters(number)));
+                assertEquals(number, malformed(() -> converter.checkDuplicates(number)),
+                        malformed(() -> reference.checkDuplicates(number)));
+                assertEquals(number, malformed(() -> converter.checkOrder(number)),
+                        malformed(() -> reference.checkOrder(number)));
+                assertEquals(number, malformed(() -> new ElbonianArabicConverter(number)),
+                        malformed(() -> new ReferenceConverter(number)));
+            }
+        }
+    }
+
+    private interface Check {
+        void run() throws MalformedNumberException, ValueOutOfBoundsException;
+    }
+
+    private static boolean malformed(Check check) throws ValueOutOfBoundsException {
+        try {
+            check.run();
+            return false;
+        } catch(MalformedNumberException e) {
+            return true;
+        }
+    }
+
+    @Test
+    public void batchToArabicTest() {
+        int[] values = new int[4];
+        long[] errors = BatchConverter.toArabic(new String[] {" MXXK", "2999", "MMM", "3000"}, values);
+        assertEquals(values[0], 1026);
+        assertEquals(values[1], 2999);
+        assertFalse(BatchConverter.isError(errors, 0));
+        assertFalse(BatchConverter.isError(errors, 1));
+        assertTrue(BatchConverter.isError(errors, 2));
+        assertTrue(BatchConverter.isError(errors, 3));
+    }
+
+    @Test
+    public void batchPackedTest() {
+        int[] in = {2394, 0, 1026, 2888};
+        char[] packed = new char[in.length * BatchConverter.MAX_NUMERAL_LENGTH];
+        int[] offsets = new int[in.length + 1];
+        long[] errors = BatchConverter.toElbonian(in, packed, offsets);
+        assertTrue(BatchConverter.isError(errors, 1));
+        assertEquals(new String(packed, 0, offsets[4]), "MMDZYJIMXXKMMECCZXXKII");
+
+        int[] out = new int[in.length];
+        errors = BatchConverter.toArabic(packed, offsets, out);
+        assertEquals(out[0], 2394);
+        assertEquals(out[2], 1026);
+        assertEquals(out[3], 2888);
+        // The empty range left for the out of bounds value reads back as the empty numeral
+        assertFalse(BatchConverter.isError(errors, 1));
+    }
+
+    @Test
+    public void parallelMatchesBatchTest() {
+        String[] in = new String[100000];
+        for(int a = 0; a < in.length; a++) {
+            in[a] = a % 7 == 0 ? "MMM" : Integer.toString(a % 3100);
+        }
+        int[] expected = new int[in.length];
+        long[] expectedErrors = BatchConverter.toArabic(in, expected);
+        int[] values = new int[in.length];
+        long[] errors = new ParallelConverter(ForkJoinPool.commonPool(), 100).toArabic(in, values);
+        assertArrayEquals(values, expected);
+        assertArrayEquals(errors, expectedErrors);
+
+        String[] numerals = new String[in.length];
+        errors = new ParallelConverter(ForkJoinPool.commonPool(), 100).toElbonian(values, numerals);
+        for(int a = 0; a < in.length; a++) {
+            assertEquals(BatchConverter.isError(errors, a), values[a] == 0);
+        }
+        assertEquals(numerals[2395], "MMDZYJII");
+    }
+
+    @Test
+    public void streamConverterTest() throws IOException, MalformedNumberException, ValueOutOfBoundsException {
+        StringBuilder input = new StringBuilder("1026\r\n MXXK \n\nMMM\n");
+        for(int a = 0; a < 100; a++) {
+            input.append('I');
+        }
+        input.append("\n2999");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        StreamConverter converter = new StreamConverter(StreamConverter.Direction.SWAP, true, 64);
+        converter.convert(Channels.newChannel(new ByteArrayInputStream(input.toString().getBytes("US-ASCII"))),
+                Channels.newChannel(out));
+        assertEquals(out.toString("US-ASCII"), "MXXK\n1026\n\nMMEDZYKJ\n");
+        assertEquals(converter.getRows(), 3);
+        assertEquals(converter.getErrors(), 2);
+    }
+
+    @Test
+    public void streamConverterMappedFileTest() throws IOException, MalformedNumberException,
+            ValueOutOfBoundsException {
+        File file = File.createTempFile("elbonian", ".txt");
+        try {
+            Files.write(file.toPath(), "MMDZYJI\n1026\n".getBytes("US-ASCII"));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try(FileChannel channel = FileChannel.open(file.toPath())) {
+                new StreamConverter(StreamConverter.Direction.ARABIC, false).convert(channel, Channels.newChannel(out));
+            }
+            assertEquals(out.toString("US-ASCII"), "2394\n1026\n");
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void converterToolParallelTest() throws IOException, InterruptedException {
+        // Non ASCII bytes and a carriage return inside a line, which must not split it
+        byte[] input = "12\nM\u00e9\n\u0661\n  MXXK \n7\r8\n\nMMXXKII\n\u00a05\nKI".getBytes(StandardCharsets.UTF_8);
+        File file = File.createTempFile("elbonian", ".txt");
+        try {
+            Files.write(file.toPath(), input);
+            String[] sequential = runTool(file, "--skip-invalid");
+            String[] parallel = runTool(file, "--skip-invalid", "--parallel", "2");
+            assertArrayEquals(parallel, sequential);
+            assertEquals(sequential[0], "XII\n1026\n\n2028\n7\n");
+
+            sequential = runTool(file, "--fail-fast");
+            parallel = runTool(file, "--fail-fast", "--parallel", "2");
+            assertArrayEquals(parallel, sequential);
+            assertTrue(sequential[1], sequential[1].startsWith("Line 2: "));
+        } finally {
+            file.delete();
+        }
+    }
+
+    /**
+     * Runs the ConverterTool in a new JVM, as it exits when it is done.
+     *
+     * @return What it wrote to standard output, the start of the first line it wrote to standard error and its
+     * exit status
+     */
+    private static String[] runTool(File file, String... options) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ConverterTool.class.getName());
+        Collections.addAll(command, options);
+        command.add(file.getPath());
+        Process process = new ProcessBuilder(command).start();
+        String output;
+        try(InputStream in = process.getInputStream()) {
+            output = new String(in.readAllBytes(), StandardCharsets.ISO_8859_1);
+        }
+        String error;
+        try(InputStream in = process.getErrorStream()) {
+            // The totals are compared, but not the time taken
+            error = new String(in.readAllBytes(), StandardCharsets.ISO_8859_1).split("\n")[0].split(" in ")[0];
+        }
+        return new String[] {output, error, Integer.toString(process.waitFor())};
+    }
+
+    @Test(expected = MalformedNumberException.class)
+    public void streamConverterFailFastTest() throws IOException, MalformedNumberException,
+            ValueOutOfBoundsException {
+        new StreamConverter(StreamConverter.Direction.ARABIC, false).convert(
+                Channels.newChannel(new ByteArrayInputStream("MM\nEDC\n".getBytes("US-ASCII"))),
+                Channels.newChannel(new ByteArrayOutputStream()));
+    }
+
+    @Test
+    public void classifyBytesTest() throws ValueOutOfBoundsException {
+        byte[] bytes = "xx MXXK , 2999,MDE".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(ConversionResult.value(ElbonianArabicConverter.classify(bytes, 2, 8)), 1026);
+        assertEquals(ConversionResult.value(ElbonianArabicConverter.classify(bytes, 9, 14)), 2999);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes);
+        int result = ElbonianArabicConverter.classify(direct, 15, 18);
+        assertEquals(ConversionResult.errorKind(result), ConversionError.OUT_OF_ORDER);
+        assertEquals(ConversionResult.offset(result), 17);
+
+        ByteBuffer slice = ByteBuffer.wrap(bytes, 9, 9).slice();
+        result = ElbonianArabicConverter.classify(slice, 6, 9);
+        assertEquals(ConversionResult.offset(result), 8);
+
+        byte[] out = new byte[16];
+        int length = ElbonianArabicConverter.formatElbonian(2394, out, 1);
+        assertEquals(new String(out, 1, length, StandardCharsets.US_ASCII), "MMDZYJI");
+    }
+
+    @Test
+    public void classifyBytesMatchesCharsTest() {
+        String symbols = "MEDCZYXKJI0129 -+a";
+        for(int length = 0; length <= 4; length++) {
+            int total = (int) Math.pow(symbols.length(), length);
+            for(int n = 0; n < total; n++) {
+                StringBuilder builder = new StringBuilder();
+                for(int a = 0, rest = n; a < length; a++, rest /= symbols.length()) {
+                    builder.append(symbols.charAt(rest % symbols.length()));
+                }
+                String number = builder.toString();
+                byte[] bytes = number.getBytes(StandardCharsets.US_ASCII);
+                int expected = ElbonianArabicConverter.classify(number, 0, length);
+                assertEquals(number, ElbonianArabicConverter.classify(bytes, 0, length), expected);
+                ByteBuffer direct = ByteBuffer.allocateDirect(Math.max(length, 1));
+                direct.put(bytes);
+                assertEquals(number, ElbonianArabicConverter.classify(direct, 0, length), expected);
+            }
+        }
+    }
+
+    @Test
+    public void conversionServerTest() throws IOException {
+        ConversionServer server = new ConversionServer(0);
+        try {
+            String url = "http://localhost:" + server.getPort();
+            HttpURLConnection connection = (HttpURLConnection) new URL(url + "/toElbonian?n=%201026").openConnection();
+            assertEquals(connection.getResponseCode(), 200);
+            assertEquals(read(connection.getInputStream()), "MXXK\n");
+
+            connection = (HttpURLConnection) new URL(url + "/toArabic?n=MDE").openConnection();
+            assertEquals(connection.getResponseCode(), 400);
+            assertEquals(read(connection.getErrorStream()), "!OUT_OF_ORDER 2\n");
+
+            connection = (HttpURLConnection) new URL(url + "/batch").openConnection();
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.getOutputStream().write("1026\nMXXK\nMMM\n".getBytes(StandardCharsets.US_ASCII));
+            assertEquals(read(connection.getInputStream()), "MXXK\n1026\n!TOO_MANY_REPEATS 2\n");
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static String read(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int b;
+        while((b = in.read()) >= 0) {
+            out.write(b);
+        }
+        in.close();
+        return out.toString("US-ASCII");
+    }
+
+    @Test
+    public void canonicalStringsTest() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianArabicConverter arabic = new ElbonianArabicConverter(" 1026 ");
+        ElbonianArabicConverter elbonian = new ElbonianArabicConverter(new String("MXXK"));
+        assertSame(arabic.toElbonian(), elbonian.toElbonian());
+        assertSame(arabic.toArabicString(), elbonian.toArabicString());
+        assertEquals(elbonian.toArabicString(), "1026");
+    }
+
+    @Test
+    public void conversionCacheTest() throws MalformedNumberException, ValueOutOfBoundsException {
+        ConversionCache cache = new ConversionCache(4, 1);
+        assertEquals(cache.toElbonian(" 1026 "), "MXXK");
+        assertEquals(cache.toArabic(" 1026 "), 1026);
+        assertEquals(ConversionResult.errorKind(cache.classify("MMM")), ConversionError.TOO_MANY_REPEATS);
+        assertEquals(ConversionResult.errorKind(cache.classify("MMM")), ConversionError.TOO_MANY_REPEATS);
+        assertEquals(cache.getHits(), 2);
+        assertEquals(cache.getMisses(), 2);
+
+        // Values seen once are evicted before the two that were used again
+        for(int n = 1; n <= 10; n++) {
+            cache.classify(Integer.toString(n));
+        }
+        assertEquals(cache.size(), 4);
+        assertEquals(cache.getEvictions(), 8);
+        cache.classify(" 1026 ");
+        cache.classify("MMM");
+        assertEquals(cache.getHits(), 4);
+    }
+
+    @Test
+    public void conversionCacheAllocationTest() {
+        // Half the lookups hit 32 inputs that keep coming back; the rest miss, so entries are promoted and evicted
+        ConversionCache cache = new ConversionCache(64, 1);
+        String[] inputs = new String[1024];
+        for(int a = 0; a < inputs.length; a++) {
+            inputs[a] = a % 2 == 0 ? " " + (a % 64 + 1) : Integer.toString(a + 1);
+            inputs[a].hashCode();
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean)
+                ManagementFactory.getThreadMXBean();
+        long id = Thread.currentThread().getId();
+        long allocated = 0;
+        for(int round = 0; round < 2; round++) {
+            // The first round warms up
+            allocated = threads.getThreadAllocatedBytes(id);
+            for(int b = 0; b < 100; b++) {
+                for(String input : inputs) {
+                    cache.classify(input);
+                }
+            }
+            allocated = threads.getThreadAllocatedBytes(id) - allocated;
+        }
+        assertTrue(cache.getHits() > 0 && cache.getEvictions() > 0);
+        // Far less than a byte a lookup: neither the entries nor the result codes are allocated
+        assertTrue(Long.toString(allocated), allocated < 10_000);
+    }
+
+    @Test(expected = MalformedNumberException.class)
+    public void conversionCacheNegativeTest() throws MalformedNumberException, ValueOutOfBoundsException {
+        ConversionCache cache = new ConversionCache(16);
+        cache.classify("EDC");
+        cache.toArabic("EDC");
+    }
+
+    @Test
+    public void elbonianNumberArithmeticTest() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianNumber sum = ElbonianNumber.parse("MXXK").add(ElbonianNumber.parse(" 1368 "));
+        assertEquals(sum.toString(), "MMDZYJI");
+        assertSame(sum, ElbonianNumber.valueOf(2394));
+        assertEquals(sum.subtract(ElbonianNumber.valueOf(2393)), ElbonianNumber.MIN);
+        assertTrue(ElbonianNumber.MAX.compareTo(sum) > 0);
+        assertEquals(ElbonianNumber.MAX.toArabicString(), "2999");
+    }
+
+    @Test
+    public void elbonianNumberSerializationTest() throws IOException, ClassNotFoundException,
+            ValueOutOfBoundsException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(ElbonianNumber.valueOf(1026));
+        }
+        byte[] serialized = bytes.toByteArray();
+        try(ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            assertSame(in.readObject(), ElbonianNumber.valueOf(1026));
+        }
+
+        // The value is the last field written; replace it with one out of bounds
+        for(int value : new int[] {0, 3000, Short.MAX_VALUE, -1}) {
+            serialized[serialized.length - 2] = (byte) (value >>> 8);
+            serialized[serialized.length - 1] = (byte) value;
+            try(ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+                in.readObject();
+                fail(Integer.toString(value));
+            } catch(InvalidObjectException e) {
+                // Rejected
+            }
+        }
+    }
+
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void elbonianNumberOverflowTest() throws ValueOutOfBoundsException {
+        ElbonianNumber.MAX.add(ElbonianNumber.MIN);
+    }
+
+    @Test(expected = ValueOutOfBoundsException.class)
+    public void elbonianNumberUnderflowTest() throws ValueOutOfBoundsException {
+        ElbonianNumber.MIN.subtract(ElbonianNumber.MIN);
+    }
+
+    @Test
+    public void numeralOrderTest() throws ValueOutOfBoundsException {
+        List<String> numerals = new ArrayList<>();
+        for(int n = 2999; n >= 1; n--) {
+            numerals.add(ElbonianNumber.valueOf(n).toString());
+        }
+        Collections.shuffle(numerals, new Random(1));
+        numerals.sort(ElbonianNumber.NUMERAL_ORDER);
+        for(int n = 1; n <= 2999; n++) {
+            assertEquals(numerals.get(n - 1), ElbonianNumber.valueOf(n).toString());
+        }
+    }
+
+    @Test
+    public void codecRoundTripTest() throws IOException {
+        int[] values = new int[ElbonianCodec.BLOCK_SIZE * 2 + 7];
+        for(int a = 0; a < values.length; a++) {
+            values[a] = a % 101 == 0 ? 0 : 1 + a % 2999;
+        }
+        byte[] packed = ElbonianCodec.encode(values);
+        assertEquals(packed.length, 4 + 3 * 4 + (values.length * 12 + 7) / 8);
+
+        ElbonianCodec.Reader reader = new ElbonianCodec.Reader(new ByteArrayInputStream(packed));
+        for(int value : values) {
+            assertEquals(reader.next(), value);
+        }
+        assertFalse(reader.hasNext());
+
+        ElbonianCodec.RandomAccessReader random = new ElbonianCodec.RandomAccessReader(ByteBuffer.wrap(packed));
+        assertEquals(random.size(), values.length);
+        for(int a = values.length - 1; a >= 0; a -= 7) {
+            assertEquals(random.get(a), values[a]);
+        }
+        assertEquals(random.getElbonian(2393), "MMDZYJI");
+        assertNull(random.getElbonian(0));
+    }
+
+    @Test
+    public void codecDamagedTest() throws IOException {
+        int[] values = new int[ElbonianCodec.BLOCK_SIZE + 3];
+        Arrays.fill(values, 1026);
+        byte[] packed = ElbonianCodec.encode(values);
+        int blockBytes = 4 + ElbonianCodec.BLOCK_SIZE * 12 / 8;
+
+        // Counts are big endian whatever the order of the buffer
+        ElbonianCodec.RandomAccessReader little = new ElbonianCodec.RandomAccessReader(
+                ByteBuffer.wrap(packed).order(ByteOrder.LITTLE_ENDIAN));
+        assertEquals(little.size(), values.length);
+
+        // The first value packed as 0xFFF, which no value is packed as
+        byte[] damaged = packed.clone();
+        damaged[8] = (byte) 0xFF;
+        damaged[9] |= (byte) 0xF0;
+        ElbonianCodec.RandomAccessReader random = new ElbonianCodec.RandomAccessReader(ByteBuffer.wrap(damaged));
+        assertEquals(random.get(0), 0);
+        assertNull(random.getElbonian(0));
+        assertEquals(random.get(1), 1026);
+        ElbonianCodec.Reader reader = new ElbonianCodec.Reader(new ByteArrayInputStream(damaged));
+        try {
+            reader.next();
+            fail();
+        } catch(IOException e) {
+            assertEquals(e.getMessage(), "Damaged value 4095");
+        }
+
+        // The count of a full block
+        damaged = packed.clone();
+        damaged[6] = 0;
+        try {
+            new ElbonianCodec.RandomAccessReader(ByteBuffer.wrap(damaged));
+            fail();
+        } catch(IOException e) {
+            assertEquals(e.getMessage(), "Damaged block 0");
+        }
+
+        // A stream cut off inside the count of its last block
+        byte[] truncated = Arrays.copyOf(packed, 4 + blockBytes + 2);
+        reader = new ElbonianCodec.Reader(new ByteArrayInputStream(truncated));
+        for(int a = 0; a < ElbonianCodec.BLOCK_SIZE; a++) {
+            assertEquals(reader.next(), 1026);
+        }
+        try {
+            reader.hasNext();
+            fail();
+        } catch(IOException e) {
+            assertEquals(e.getMessage(), "Truncated block");
+        }
+    }
+
+    @Test
+    public void codecWriterTest() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try(ElbonianCodec.Writer writer = new ElbonianCodec.Writer(out)) {
+            writer.write(" MXXK ");
+            writer.write("MMM");
+            writer.writeMissing();
+            writer.write("2999");
+        }
+        ElbonianCodec.Reader reader = new ElbonianCodec.Reader(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(reader.next(), 1026);
+        assertNull(reader.nextElbonian());
+        assertNull(reader.nextElbonian());
+        assertEquals(reader.nextElbonian(), "MMEDZYKJ");
+        assertFalse(reader.hasNext());
+    }
+
+    @Test
+    public void histogramTest() {
+        ElbonianHistogram histogram = new ElbonianHistogram();
+        histogram.addAll(new String[] {"I", " 2 ", "J", "MXXK", "1026", "MMM", "3000", "ABC", "  "});
+        assertEquals(histogram.count(), 5);
+        assertEquals(histogram.count(1026), 2);
+        assertEquals(histogram.sum(), 1 + 2 + 3 + 1026 * 2);
+        assertEquals(histogram.min(), 1);
+        assertEquals(histogram.max(), 1026);
+        assertEquals(histogram.percentile(0.5), 3);
+        assertEquals(histogram.failures(ConversionError.TOO_MANY_REPEATS), 1);
+        assertEquals(histogram.failures(ConversionError.OUT_OF_RANGE), 1);
+        assertEquals(histogram.failures(ConversionError.INVALID_CHARACTER), 1);
+    }
+
+    @Test
+    public void histogramParallelTest() {
+        List<String> inputs = new ArrayList<>();
+        for(int n = 0; n < 100000; n++) {
+            inputs.add(Integer.toString(n % 3001));
+        }
+        ElbonianHistogram parallel = inputs.parallelStream().collect(ElbonianHistogram.collector());
+        ElbonianHistogram sequential = new ElbonianHistogram();
+        inputs.forEach(sequential::add);
+        assertEquals(parallel.count(), sequential.count());
+        assertEquals(parallel.sum(), sequential.sum());
+        assertEquals(parallel.failures(ConversionError.OUT_OF_RANGE), sequential.failures(ConversionError.OUT_OF_RANGE));
+        assertEquals(parallel.percentile(0.99), sequential.percentile(0.99));
+    }
+
+    /**
+     * Subscribes to a ConversionProcessor, asking for a few items at a time, and collects what it passes on.
+     */
+    private static final class Recorder<T> implements Flow.Subscriber<T> {
+        final List<T> items = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch done = new CountDownLatch(1);
+        Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(3);
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+            if(items.size() % 3 == 0) {
+                subscription.request(3);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+    }
+
+    private static void processorTest(Executor executor) throws InterruptedException, ValueOutOfBoundsException {
+        ConversionProcessor processor = new ConversionProcessor(StreamConverter.Direction.SWAP, 16, executor);
+        Recorder<String> output = new Recorder<>();
+        Recorder<ConversionProcessor.Rejected> rejected = new Recorder<>();
+        processor.subscribe(output);
+        processor.errors().subscribe(rejected);
+        List<String> expected = new ArrayList<>();
+        try(SubmissionPublisher<String> input = new SubmissionPublisher<>()) {
+            input.subscribe(processor);
+            for(int n = 1; n <= 1000; n++) {
+                input.submit(Integer.toString(n));
+                expected.add(ElbonianNumber.valueOf(n).toString());
+                if(n % 100 == 0) {
+                    input.submit("MMM");
+                }
+            }
+        }
+        assertTrue(output.done.await(10, TimeUnit.SECONDS));
+        assertTrue(rejected.done.await(10, TimeUnit.SECONDS));
+        assertEquals(output.items, expected);
+        assertEquals(rejected.items.size(), 10);
+        assertEquals(rejected.items.get(0).getIndex(), 100);
+        assertEquals(rejected.items.get(9).getError(), ConversionError.TOO_MANY_REPEATS);
+    }
+
+    @Test
+    public void processorTest() throws InterruptedException, ValueOutOfBoundsException {
+        processorTest(null);
+    }
+
+    @Test
+    public void processorExecutorTest() throws InterruptedException, ValueOutOfBoundsException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            processorTest(executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void processorManyErrorsTest() throws InterruptedException {
+        // More rejects than an errors() subscriber's buffer holds, all converted on one thread
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            ConversionProcessor processor = new ConversionProcessor(StreamConverter.Direction.SWAP, 1024,
+                    executor);
+            Recorder<String> output = new Recorder<>();
+            List<ConversionProcessor.Rejected> rejected = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch errorsDone = new CountDownLatch(1);
+            processor.subscribe(output);
+            processor.errors().subscribe(new Flow.Subscriber<ConversionProcessor.Rejected>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(ConversionProcessor.Rejected item) {
+                    rejected.add(item);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    errorsDone.countDown();
+                }
+
+                @Override
+                public void onComplete() {
+                    errorsDone.countDown();
+                }
+            });
+            try(SubmissionPublisher<String> input = new SubmissionPublisher<>()) {
+                input.subscribe(processor);
+                for(int a = 0; a < 2000; a++) {
+                    input.submit("MMM");
+                }
+                input.submit("7");
+            }
+            assertTrue(output.done.await(10, TimeUnit.SECONDS));
+            assertTrue(errorsDone.await(10, TimeUnit.SECONDS));
+            assertEquals(output.items, Collections.singletonList("KI"));
+            assertEquals(rejected.size() + processor.getDroppedErrors(), 2000);
+            for(int a = 1; a < rejected.size(); a++) {
+                assertTrue(rejected.get(a).getIndex() > rejected.get(a - 1).getIndex());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void numeralSystemElbonianTest() throws MalformedNumberException, ValueOutOfBoundsException {
+        NumeralSystem system = NumeralSystem.ELBONIAN;
+        assertEquals(system.getMaxValue(), 2999);
+        for(int n = 1; n <= 2999; n++) {
+            String numeral = new ElbonianArabicConverter(Integer.toString(n)).toElbonian();
+            assertEquals(system.format(n), numeral);
+            assertEquals(system.value(numeral, 0, numeral.length()), n);
+        }
+        for(String invalid : new String[] {"MMM", "EDC", "IM", "MAX", "ZYXX"}) {
+            assertEquals(system.validate(invalid, 0, invalid.length()),
+                    ElbonianArabicConverter.classify(invalid, 0, invalid.length()));
+        }
+    }
+
+    @Test
+    public void numeralSystemRomanTest() throws ValueOutOfBoundsException {
+        NumeralSystem roman = new NumeralSystem("MDCLXVI", new int[] {1000, 500, 100, 50, 10, 5, 1},
+                new int[] {4, 1, 4, 1, 4, 1, 4});
+        assertEquals(roman.getMaxValue(), 4999);
+        assertEquals(roman.format(1994), "MDCCCCLXXXXIIII");
+        assertEquals(roman.value("MMXXVI", 0, 6), 2026);
+        // Values above 4095 need more than the 12 bits the Elbonian values fit in
+        assertEquals(ConversionResult.value(roman.validate("MMMMD", 0, 5)), 4500);
+        String largest = "MMMMDCCCCLXXXXVIIII";
+        assertEquals(ConversionResult.value(roman.validate(largest, 0, largest.length())), 4999);
+        assertTrue(ConversionResult.isElbonian(roman.validate(largest, 0, largest.length())));
+        assertEquals(roman.format(4999), largest);
+        assertEquals(ConversionResult.errorKind(roman.validate("IIIII", 0, 5)), ConversionError.TOO_MANY_REPEATS);
+        assertEquals(ConversionResult.errorKind(roman.validate("IV", 0, 2)), ConversionError.OUT_OF_ORDER);
+        assertEquals(ConversionResult.offset(roman.validate("XZ", 0, 2)), 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void numeralSystemAmbiguousTest() {
+        // IIIII and V would both be 5
+        new NumeralSystem("VI", new int[] {5, 1}, new int[] {1, 5});
+    }
+
+    @Test
+    public void boundedArabicParseTest() {
+        String[] inputs = {"0000000000002999", "  0012  ", "9999", "10000", "12345x", "2147483647",
+                "2147483648", "-2147483648", "0000000000000000000002147483648", "+0", "\u0661\u0662",
+                "\u0661\u0662\u0663\u0664\u0665"};
+        for(String input : inputs) {
+            assertEquals(input, outcome(input, false), outcome(input, true));
+        }
+    }
+
+    private static String outcome(String input, boolean reference) {
+        try {
+            return Integer.toString(reference ? new ReferenceConverter(input).toArabic()
+                    : new ElbonianArabicConverter(input).toArabic());
+        } catch(MalformedNumberException e) {
+            return "malformed";
+        } catch(ValueOutOfBoundsException e) {
+            return "out of range";
+        }
+    }
+
+    @Test
+    public void prebuiltNumeralsTest() throws IOException, MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianArabicConverter.warmUp();
+        List<String> numerals = new ArrayList<>();
+        try(InputStream in = ElbonianArabicConverter.class.getResourceAsStream("elbonian-numerals.txt")) {
+            assertNotNull(in);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            for(int read; (read = in.read(buffer)) > 0; ) {
+                bytes.write(buffer, 0, read);
+            }
+            Collections.addAll(numerals, new String(bytes.toByteArray(), StandardCharsets.US_ASCII).split("\n", -1));
+        }
+        // One line per value from 0 to 2999, each ended by a newline
+        assertEquals(numerals.size(), 3001);
+        assertEquals(numerals.get(0), "");
+        for(int n = 1; n <= 2999; n++) {
+            assertEquals(numerals.get(n), new ElbonianArabicConverter(Integer.toString(n)).toElbonian());
+        }
+    }
+
+    @Test
+    public void packedScannerTest() throws MalformedNumberException, ValueOutOfBoundsException {
+        StringBuilder builder = new StringBuilder();
+        long sum = 0;
+        for(int n = 1; n <= 2999; n++) {
+            builder.append(new ElbonianArabicConverter(Integer.toString(n)).toElbonian());
+            sum += n;
+        }
+        byte[] packed = builder.toString().getBytes(StandardCharsets.US_ASCII);
+        assertEquals(PackedScanner.indexOfInvalidCharacter(packed, 0, packed.length), -1);
+        assertEquals(PackedScanner.sumValues(packed, 0, packed.length), sum);
+
+        // Every position of a long range and of a short one, with every kind of byte that is not a symbol
+        for(byte invalid : new byte[] {'A', 'B', 'F', 'H', 'L', 'N', 'W', '[', 'm', 'i', '\n', 0, (byte) 0x80,
+                (byte) 0xC3, (byte) 0xCD, (byte) 0xFF}) {
+            for(int a = 0; a < 200; a++) {
+                byte saved = packed[a];
+                packed[a] = invalid;
+                assertEquals(PackedScanner.indexOfInvalidCharacter(packed, 0, 200), a);
+                assertEquals(PackedScanner.indexOfInvalidCharacter(packed, a, a + 5), a);
+                assertEquals(PackedScanner.indexOfInvalidCharacter(packed, a + 1, 300), -1);
+                packed[a] = saved;
+            }
+        }
+    }
+
+    @Test
+    public void converterEqualityTest() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianArabicConverter arabic = new ElbonianArabicConverter(" 2028 ");
+        ElbonianArabicConverter elbonian = new ElbonianArabicConverter("MMXXKII");
+        assertEquals(arabic, elbonian);
+        assertEquals(arabic.hashCode(), elbonian.hashCode());
+        assertEquals(arabic.compareTo(elbonian), 0);
+        assertNotEquals(arabic, new ElbonianArabicConverter("2027"));
+        assertNotEquals(arabic, "2028");
+        assertTrue(new ElbonianArabicConverter("MMEDZYKJ").compareTo(arabic) > 0);
+        assertTrue(new ElbonianArabicConverter("I").compareTo(arabic) < 0);
+
+        Map<ElbonianArabicConverter, String> names = new HashMap<>();
+        names.put(arabic, "this year");
+        assertEquals(names.get(elbonian), "this year");
+        TreeSet<ElbonianArabicConverter> sorted = new TreeSet<>();
+        Collections.addAll(sorted, new ElbonianArabicConverter("C"), elbonian, new ElbonianArabicConverter("100"),
+                new ElbonianArabicConverter("3"));
+        assertEquals(sorted.size(), 3);
+        assertEquals(sorted.first().toElbonian(), "J");
+        assertEquals(sorted.last().toArabic(), 2028);
+
+        // Repeated conversions give back the same Strings
+        assertSame(elbonian.toElbonian(), elbonian.toElbonian());
+        assertSame(elbonian.toArabicString(), arabic.toArabicString());
+    }
+
+    @Test
+    public void malformedMessageTest() {
+        String[][] cases = {
+                {"MMM", "M, C, X, and I can only appear a maximum of 2 times in a number"},
+                {"DDMMM", "M, C, X, and I can only appear a maximum of 2 times in a number"},
+                {"MEE", "D, E, Y, Z, J, and K can only appear once in a number"},
+                {"EDC", "C cannot appear if D and E are in the number"},
+                {"ZYXEDC", "C cannot appear if D and E are in the number"},
+                {"ZYX", "X cannot appear if Y and Z are in the number"},
+                {"KJI", "I cannot appear if J and K are in the number"},
+                {"IM", "Numbers not in proper order"},
+                {"MAX", "Number should only contain valid characters"}};
+        for(String[] c : cases) {
+            try {
+                new ElbonianArabicConverter(c[0]);
+                fail(c[0]);
+            } catch(MalformedNumberException e) {
+                assertEquals(c[0], e.getMessage(), c[1]);
+            } catch(ValueOutOfBoundsException e) {
+                fail(c[0]);
+            }
+        }
+    }
+
 //    @Test
 //    public void valueOutOfBoundsTest4() throws MalformedNumberException, ValueOutOfBoundsException {
 //        ElbonianArabicConverter converter = new ElbonianArabicConverter("0");;
@@ -0,0 +1,379 @@
+package converter.tests;
+
+import converter.BatchConverter;
+import converter.ConversionCache;
+import converter.ConversionError;
+import converter.ConversionResult;
+import converter.ElbonianArabicConverter;
+import converter.ElbonianNumber;
+import converter.NumeralSystem;
+import converter.PackedScanner;
+import converter.ParallelConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+/**
+ * Differential tests of every conversion engine against the ReferenceConverter. Every value, every String
+ * of up to LENGTH Elbonian symbols, short Strings mixing symbols with digits, signs, spaces and other
+ * characters, and Arabic numbers around the edges of the range are run through the reference and each
+ * engine, and the outcomes must match: the same value, or the same kind of error. Engines that throw must
+ * also throw the reference's message word for word.
+ *
+ * The same inputs are then converted from several threads at once through shared caches, and through
+ * tables being built for the first time, to catch data races.
+ *
+ * Run with -Dconverter.differential.length=7 or more for a longer search.
+ *
+ * @version 10/18/26
+ */
+public class DifferentialTests {
+
+    // The longest String of Elbonian symbols that is enumerated
+    private static final int LENGTH = Integer.getInteger("converter.differential.length", 5);
+
+    private static final String SYMBOLS = "MEDCZYXKJI";
+
+    // Symbols mixed with everything else that the parsers treat specially
+    private static final String MIXED = "MDCXKI0129 -+\t\u0661a";
+
+    private static final int THREADS = 8;
+
+    // Every input but the enumerated symbol Strings, with the reference outcome for each
+    private static final List<String> inputs = new ArrayList<>();
+    private static int[] expected;
+
+    @BeforeClass
+    public static void setUp() {
+        for(int n = 1; n <= 2999; n++) {
+            String numeral = reference(Integer.toString(n)).toElbonian();
+            Collections.addAll(inputs, numeral, " " + numeral + "\t", Integer.toString(n));
+        }
+        for(int n = -20; n <= 3100; n++) {
+            Collections.addAll(inputs, Integer.toString(n), "  " + n + " ", "000" + n, "+" + n);
+        }
+        Collections.addAll(inputs, "", " ", "\t\n", "+", "-", "+-1", "--1", "2147483647", "2147483648",
+                "-2147483648", "-2147483649", "99999999999", "0000000000000000000002999", "\u0661\u0662",
+                "\u0662\u0669\u0669\u0669", "\u0663\u0660\u0660\u0660", "\uff11", "M M", "MM\u0000", "1 2");
+        enumerate(MIXED, 3, inputs::add);
+        expected = new int[inputs.size()];
+        for(int a = 0; a < inputs.size(); a++) {
+            expected[a] = referenceOutcome(inputs.get(a));
+        }
+    }
+
+    private interface Visitor {
+        void visit(String input);
+    }
+
+    /**
+     * Visits every String of up to length characters taken from an alphabet, including the empty String.
+     */
+    private static void enumerate(String alphabet, int length, Visitor visitor) {
+        char[] chars = new char[length];
+        int[] digits = new int[length];
+        for(int size = 0; size <= length; size++) {
+            for(int a = 0; a < size; a++) {
+                digits[a] = 0;
+                chars[a] = alphabet.charAt(0);
+            }
+            while(true) {
+                visitor.visit(new String(chars, 0, size));
+                int a = size - 1;
+                while(a >= 0 && digits[a] == alphabet.length() - 1) {
+                    digits[a] = 0;
+                    chars[a] = alphabet.charAt(0);
+                    a--;
+                }
+                if(a < 0) {
+                    break;
+                }
+                chars[a] = alphabet.charAt(++digits[a]);
+            }
+        }
+    }
+
+    private static ReferenceConverter reference(String input) {
+        try {
+            return new ReferenceConverter(input);
+        } catch(MalformedNumberException | ValueOutOfBoundsException e) {
+            throw new AssertionError(input, e);
+        }
+    }
+
+    /**
+     * Outcomes are the value for a valid input, or -1 - the ordinal of the ConversionError.
+     */
+    private static int errorOutcome(ConversionError kind) {
+        return -1 - kind.ordinal();
+    }
+
+    private static int resultOutcome(int result) {
+        return ConversionResult.isError(result) ? errorOutcome(ConversionResult.errorKind(result))
+                : ConversionResult.value(result);
+    }
+
+    private static int referenceOutcome(String input) {
+        try {
+            return new ReferenceConverter(input).toArabic();
+        } catch(ValueOutOfBoundsException e) {
+            return errorOutcome(ConversionError.OUT_OF_RANGE);
+        } catch(MalformedNumberException e) {
+            return errorOutcome(referenceKind(e.getMessage()));
+        }
+    }
+
+    // Sorts the ReferenceConverter's messages into the kinds of ConversionError
+    private static ConversionError referenceKind(String message) {
+        if(message.contains("valid characters")) {
+            return ConversionError.INVALID_CHARACTER;
+        }
+        if(message.contains("maximum of 2 times") || message.contains("only appear once")) {
+            return ConversionError.TOO_MANY_REPEATS;
+        }
+        if(message.contains("cannot appear if")) {
+            return ConversionError.EXCLUDED_COMBINATION;
+        }
+        if(message.contains("proper order")) {
+            return ConversionError.OUT_OF_ORDER;
+        }
+        throw new AssertionError("Unknown message " + message);
+    }
+
+    private static ConversionError kind(Exception e) {
+        return e instanceof ValueOutOfBoundsException ? ConversionError.OUT_OF_RANGE : referenceKind(e.getMessage());
+    }
+
+    private static String referenceMessage(String input) {
+        try {
+            new ReferenceConverter(input);
+            return null;
+        } catch(MalformedNumberException | ValueOutOfBoundsException e) {
+            return e.getMessage();
+        }
+    }
+
+    private interface Validator {
+        void check(String input) throws MalformedNumberException;
+    }
+
+    private static String validatorMessage(Validator validator, String input) {
+        try {
+            validator.check(input);
+            return null;
+        } catch(MalformedNumberException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * Checks every single threaded engine against the reference outcome for one input.
+     */
+    private static void checkEngines(String input, int expected) {
+        int outcome;
+        try {
+            ElbonianArabicConverter converter = new ElbonianArabicConverter(input);
+            outcome = converter.toArabic();
+            assertEquals(input, converter.toElbonian(), reference(input).toElbonian());
+            assertEquals(input, converter.toArabicString(), Integer.toString(outcome));
+        } catch(MalformedNumberException | ValueOutOfBoundsException e) {
+            outcome = errorOutcome(kind(e));
+            assertEquals(input, e.getMessage(), referenceMessage(input));
+        }
+        assertEquals(input, outcome, expected);
+
+        assertEquals(input, resultOutcome(ElbonianArabicConverter.classify(input, 0, input.length())), expected);
+        String padded = "#" + input + "#";
+        assertEquals(input, resultOutcome(ElbonianArabicConverter.classify(padded, 1, padded.length() - 1)),
+                expected);
+
+        boolean ascii = input.chars().allMatch(ch -> ch < 128);
+        if(ascii) {
+            byte[] bytes = padded.getBytes(StandardCharsets.US_ASCII);
+            assertEquals(input, resultOutcome(ElbonianArabicConverter.classify(bytes, 1, bytes.length - 1)),
+                    expected);
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+            direct.put(bytes);
+            assertEquals(input, resultOutcome(ElbonianArabicConverter.classify(direct, 1, bytes.length - 1)),
+                    expected);
+        }
+
+        if(!input.trim().isEmpty()) {
+            try {
+                outcome = ElbonianNumber.parse(input).intValue();
+            } catch(MalformedNumberException | ValueOutOfBoundsException e) {
+                outcome = errorOutcome(kind(e));
+                assertEquals(input, e.getMessage(), referenceMessage(input));
+            }
+            assertEquals(input, outcome, expected);
+        }
+    }
+
+    /**
+     * Checks the engines that only read Elbonian numerals, and the three validators, for a String made only
+     * of Elbonian symbols.
+     */
+    private static void checkSymbols(String input, ElbonianArabicConverter converter, ReferenceConverter reference) {
+        int expected = referenceOutcome(input);
+        checkEngines(input, expected);
+        assertEquals(input, ElbonianArabicConverter.parseElbonian(input, 0, input.length()),
+                expected >= 0 ? expected : -1);
+        assertEquals(input, resultOutcome(NumeralSystem.ELBONIAN.validate(input, 0, input.length())), expected);
+        assertEquals(input, validatorMessage(converter::checkValidCharacters, input),
+                validatorMessage(reference::checkValidCharacters, input));
+        assertEquals(input, validatorMessage(converter::checkDuplicates, input),
+                validatorMessage(reference::checkDuplicates, input));
+        assertEquals(input, validatorMessage(converter::checkOrder, input),
+                validatorMessage(reference::checkOrder, input));
+    }
+
+    @Test
+    public void everySymbolStringTest() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianArabicConverter converter = new ElbonianArabicConverter("I");
+        ReferenceConverter reference = new ReferenceConverter("I");
+        enumerate(SYMBOLS, LENGTH, input -> checkSymbols(input, converter, reference));
+    }
+
+    @Test
+    public void everyValueTest() throws MalformedNumberException, ValueOutOfBoundsException {
+        ElbonianArabicConverter converter = new ElbonianArabicConverter("I");
+        ReferenceConverter reference = new ReferenceConverter("I");
+        for(int n = 1; n <= 2999; n++) {
+            checkSymbols(reference(Integer.toString(n)).toElbonian(), converter, reference);
+        }
+    }
+
+    @Test
+    public void mixedInputTest() {
+        for(int a = 0; a < inputs.size(); a++) {
+            checkEngines(inputs.get(a), expected[a]);
+        }
+    }
+
+    @Test
+    public void batchTest() {
+        String[] in = inputs.toArray(new String[0]);
+        int[] results = new int[in.length];
+        BatchConverter.classify(in, results);
+        for(int a = 0; a < in.length; a++) {
+            assertEquals(in[a], resultOutcome(results[a]), expected[a]);
+        }
+    }
+
+    /**
+     * Runs a task on THREADS threads started together and waits for them all.
+     */
+    private static void concurrently(Callable<Void> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for(int a = 0; a < THREADS; a++) {
+                futures.add(executor.submit(task));
+            }
+            for(Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void concurrentCacheTest() throws Exception {
+        // Much smaller than the inputs, so that entries are evicted and replaced while others read them
+        ConversionCache cache = new ConversionCache(512, 4);
+        ParallelConverter parallel = new ParallelConverter();
+        String[] in = inputs.toArray(new String[0]);
+        CountDownLatch start = new CountDownLatch(THREADS);
+        concurrently(() -> {
+            start.countDown();
+            start.await();
+            int offset = (int) (Thread.currentThread().getId() * 7919 % in.length);
+            for(int b = 0; b < in.length; b++) {
+                int a = (b + offset) % in.length;
+                assertEquals(in[a], resultOutcome(cache.classify(in[a])), expected[a]);
+                assertEquals(in[a], resultOutcome(ElbonianArabicConverter.classify(in[a], 0, in[a].length())),
+                        expected[a]);
+                if(expected[a] > 0) {
+                    assertEquals(in[a], cache.toArabic(in[a]), expected[a]);
+                    assertEquals(in[a], cache.toElbonian(in[a]), reference(in[a]).toElbonian());
+                }
+            }
+            int[] results = new int[in.length];
+            parallel.classify(in, results);
+            for(int a = 0; a < in.length; a++) {
+                assertEquals(in[a], resultOutcome(results[a]), expected[a]);
+            }
+            return null;
+        });
+    }
+
+    @Test
+    public void packedScannerTest() {
+        // Compare PackedScanner with a search of the alphabet for every invalid byte at every offset
+        StringBuilder builder = new StringBuilder();
+        for(int n = 1; n <= 2999; n++) {
+            builder.append(reference(Integer.toString(n)).toElbonian());
+        }
+        byte[] packed = builder.toString().getBytes(StandardCharsets.US_ASCII);
+        assertEquals(PackedScanner.indexOfInvalidCharacter(packed, 0, packed.length), -1);
+        for(int invalid = 0; invalid < 256; invalid++) {
+            if(SYMBOLS.indexOf(invalid) >= 0) {
+                continue;
+            }
+            for(int a = 0; a < 40; a++) {
+                byte saved = packed[a];
+                packed[a] = (byte) invalid;
+                for(int from = 0; from <= a; from += 3) {
+                    for(int to = a; to <= 48; to += 5) {
+                        assertEquals(PackedScanner.indexOfInvalidCharacter(packed, from, to), a < to ? a : -1);
+                    }
+                }
+                packed[a] = saved;
+            }
+        }
+    }
+
+    @Test
+    public void concurrentTableBuildTest() throws Exception {
+        // Each round loads the converter in a new class loader, so its tables are built while every thread
+        // is already trying to convert with them
+        URL classes = ElbonianArabicConverter.class.getProtectionDomain().getCodeSource().getLocation();
+        for(int round = 0; round < 10; round++) {
+            try(URLClassLoader loader = new URLClassLoader(new URL[] {classes},
+                    ClassLoader.getSystemClassLoader().getParent())) {
+                Class<?> converter = loader.loadClass(ElbonianArabicConverter.class.getName());
+                Method classify = converter.getMethod("classify", CharSequence.class, int.class, int.class);
+                CountDownLatch start = new CountDownLatch(THREADS);
+                concurrently(() -> {
+                    start.countDown();
+                    start.await();
+                    for(int a = 0; a < inputs.size(); a += 7) {
+                        String input = inputs.get(a);
+                        int result = (Integer) classify.invoke(null, input, 0, input.length());
+                        assertEquals(input, resultOutcome(result), expected[a]);
+                    }
+                    return null;
+                });
+            }
+        }
+    }
+
+}
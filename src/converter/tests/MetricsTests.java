@@ -0,0 +1,137 @@
+package converter.tests;
+
+import converter.ConverterMetrics;
+import converter.ElbonianArabicConverter;
+import converter.exceptions.MalformedNumberException;
+import converter.exceptions.ValueOutOfBoundsException;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the ConverterMetrics. The metrics are switched on by a system property that is read once, so the
+ * conversions run in a new JVM started with -Dconverter.metrics=true, which reports what its MBean and
+ * Flight Recorder saw.
+ *
+ * @version 10/18/26
+ */
+public class MetricsTests {
+
+    // Valid Elbonian, valid Arabic, and one input for each kind of failure
+    private static final String[] INPUTS = {"MXXK", "1026", "  2  ", "MAX", "MMM", "EDC", "IM", "3000"};
+
+    private static final String[] ATTRIBUTES = {"ArabicInputs", "ElbonianInputs", "InvalidCharacterFailures",
+            "DuplicateFailures", "OrderFailures", "OutOfRangeFailures", "Conversions"};
+
+    @Test
+    public void metricsTest() throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.add("-Dconverter.metrics=true");
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(MetricsTests.class.getName());
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        Map<String, String> report = new HashMap<>();
+        try(BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(),
+                StandardCharsets.US_ASCII))) {
+            String line;
+            while((line = reader.readLine()) != null) {
+                String[] pair = line.split("=", 2);
+                assertEquals(line, pair.length, 2);
+                report.put(pair[0], pair[1]);
+            }
+        }
+        assertEquals(process.waitFor(), 0);
+
+        assertEquals(report.get("Enabled"), "true");
+        assertEquals(report.get("ArabicInputs"), "3");
+        assertEquals(report.get("ElbonianInputs"), "1");
+        assertEquals(report.get("InvalidCharacterFailures"), "1");
+        assertEquals(report.get("DuplicateFailures"), "2");
+        assertEquals(report.get("OrderFailures"), "1");
+        assertEquals(report.get("OutOfRangeFailures"), "1");
+        assertEquals(report.get("Conversions"), "6");
+        assertEquals(report.get("Latencies"), Integer.toString(INPUTS.length));
+        assertEquals(report.get("Events"), Integer.toString(INPUTS.length));
+        assertEquals(report.get("Errors"), "5");
+    }
+
+    @Test
+    public void metricsOffTest() throws MalformedNumberException, ValueOutOfBoundsException {
+        // This JVM was not started with the metrics on, so nothing is counted
+        assertFalse(ConverterMetrics.ENABLED);
+        new ElbonianArabicConverter("MXXK").toArabic();
+        assertEquals(ConverterMetrics.get().getElbonianInputs(), 0);
+        assertEquals(ConverterMetrics.get().getConversions(), 0);
+    }
+
+    /**
+     * Runs in the new JVM: converts the inputs while recording, then prints each MBean attribute and what
+     * was recorded, one name=value pair to a line.
+     */
+    public static void main(String[] args) throws IOException, JMException {
+        Path file = Files.createTempFile("converter", ".jfr");
+        try(Recording recording = new Recording()) {
+            recording.enable("converter.Conversion");
+            recording.start();
+            for(String input : INPUTS) {
+                try {
+                    ElbonianArabicConverter converter = new ElbonianArabicConverter(input);
+                    converter.toArabic();
+                    converter.toElbonian();
+                } catch(MalformedNumberException | ValueOutOfBoundsException e) {
+                    // Counted as a failure
+                }
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+
+        System.out.println("Enabled=" + ConverterMetrics.ENABLED);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("converter:type=ConverterMetrics");
+        for(String attribute : ATTRIBUTES) {
+            System.out.println(attribute + "=" + server.getAttribute(name, attribute));
+        }
+        long latencies = 0;
+        for(long count : (long[]) server.getAttribute(name, "LatencyHistogram")) {
+            latencies += count;
+        }
+        System.out.println("Latencies=" + latencies);
+
+        int events = 0;
+        int errors = 0;
+        for(RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            if(event.getEventType().getName().equals("converter.Conversion")) {
+                events++;
+                if(event.getString("error") != null) {
+                    errors++;
+                }
+            }
+        }
+        Files.delete(file);
+        System.out.println("Events=" + events);
+        System.out.println("Errors=" + errors);
+    }
+
+}